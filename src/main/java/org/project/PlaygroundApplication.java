@@ -6,7 +6,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.util.Random;
+import java.time.Clock;
 
 @SpringBootApplication
 public class PlaygroundApplication {
@@ -29,8 +29,8 @@ public class PlaygroundApplication {
     }
 
     @Bean
-    public Random random() {
-        return  new Random();
+    public Clock clock() {
+        return Clock.systemDefaultZone();
     }
 
 }
@@ -0,0 +1,62 @@
+package org.project;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs every request on its own virtual thread instead of Tomcat's bounded pool of platform
+ * threads, together with the asynchronous work of the application: the MVC async requests and the
+ * flushing of play site events. A request waiting for a contended play site lock then parks a
+ * virtual thread and leaves the carrier thread to other requests.
+ * <p>
+ * Only active with the {@code virtual-threads} Spring profile. The application is built for Java
+ * 17, so the virtual thread executors are looked up at runtime and the profile fails at startup
+ * on a runtime older than Java 21.
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Requests are executed on virtual threads.");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService playSiteEventExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Returns {@code Executors.newVirtualThreadPerTaskExecutor()}, which only exists from Java 21 on.
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(String.format(
+                    "The virtual-threads profile requires Java 21 or later, the runtime is Java %s.", Runtime.version()), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor.", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.project.playgrounds.enums;
+
+public enum AdmissionPolicy {
+    ALWAYS_ACCEPT,
+    BOUNDED_QUEUE,
+    EARLY_DROP,
+    RANDOM,
+}
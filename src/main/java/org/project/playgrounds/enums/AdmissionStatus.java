@@ -0,0 +1,8 @@
+package org.project.playgrounds.enums;
+
+public enum AdmissionStatus {
+
+    ADMITTED,
+    QUEUED,
+    REJECTED,
+}
@@ -1,6 +1,10 @@
 package org.project.playgrounds.enums;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum EquipmentType {
     DOUBLE_SWINGS("Double Swings", UUID.fromString("cf9b5a00-0bb2-11ee-be56-0242ac120002")),
@@ -8,6 +12,9 @@ public enum EquipmentType {
     SLIDE("Slide", UUID.fromString("cf9b5f1e-0bb2-11ee-be56-0242ac120002")),
     BALL_PIT("Ball Pit", UUID.fromString("cf9b605e-0bb2-11ee-be56-0242ac120002"));
 
+    private static final Map<UUID, EquipmentType> BY_UUID = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(EquipmentType::getUUID, Function.identity()));
+
     private final String name;
     private final UUID uuid;
 
@@ -23,4 +30,13 @@ public enum EquipmentType {
     public UUID getUUID() {
         return uuid;
     }
+
+    /**
+     * Looks up the equipment type by its UUID in constant time.
+     *
+     * @return the equipment type, or {@code null} if no equipment type has the given UUID.
+     */
+    public static EquipmentType fromUUID(UUID uuid) {
+        return uuid == null ? null : BY_UUID.get(uuid);
+    }
 }
@@ -0,0 +1,11 @@
+package org.project.playgrounds.enums;
+
+public enum PlaySiteChangeType {
+
+    ADMITTED,
+    ENQUEUED,
+    PROMOTED,
+    REMOVED,
+    DEQUEUED,
+    DEMOTED,
+}
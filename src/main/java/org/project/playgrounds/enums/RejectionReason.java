@@ -0,0 +1,10 @@
+package org.project.playgrounds.enums;
+
+public enum RejectionReason {
+
+    NO_EQUIPMENT,
+    PLAY_SITE_FULL,
+    AGE_RESTRICTION,
+    ENQUEUE_REJECTED,
+    QUEUE_FULL,
+}
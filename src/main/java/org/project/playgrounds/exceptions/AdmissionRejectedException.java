@@ -0,0 +1,48 @@
+package org.project.playgrounds.exceptions;
+
+import org.project.playgrounds.enums.RejectionReason;
+import org.project.playgrounds.v1.dto.AdmissionResult;
+
+import java.time.Duration;
+
+import java.util.UUID;
+
+/**
+ * A kid or a group that was not admitted to a play site. Rejections are a routine outcome, so these
+ * exceptions carry no stack trace and format their message only when it is read.
+ */
+public abstract class AdmissionRejectedException extends RuntimeException {
+    private final RejectionReason reason;
+    private final String message;
+    private final Object[] arguments;
+
+    protected AdmissionRejectedException(RejectionReason reason, String message, Object... arguments) {
+        super(null, null, false, false);
+        this.reason = reason;
+        this.message = message;
+        this.arguments = arguments;
+    }
+
+    /**
+     * The exception of a rejected kid, to answer a rejected {@link AdmissionResult} with.
+     */
+    public static AdmissionRejectedException of(AdmissionResult result, UUID playSiteId) {
+        return switch (result.reason()) {
+            case NO_EQUIPMENT -> new NoEquipmentFoundException(result.name(), playSiteId);
+            case PLAY_SITE_FULL -> new PlaySiteFullException(result.name(), playSiteId);
+            case AGE_RESTRICTION -> new AgeRestrictionException(result.name(), playSiteId);
+            case ENQUEUE_REJECTED -> new EnqueueRequestRejected(result.name(), playSiteId);
+            case QUEUE_FULL -> new QueueFullException(result.name(), playSiteId,
+                    result.retryAfter() == null ? null : Duration.ofSeconds(result.retryAfter()));
+        };
+    }
+
+    public RejectionReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return arguments.length == 0 ? message : String.format(message, arguments);
+    }
+}
@@ -1,7 +1,19 @@
 package org.project.playgrounds.exceptions;
 
-public class AgeRestrictionException extends RuntimeException {
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.util.UUID;
+
+public class AgeRestrictionException extends AdmissionRejectedException {
     public AgeRestrictionException(String message) {
-        super(message);
+        super(RejectionReason.AGE_RESTRICTION, message);
+    }
+
+    public AgeRestrictionException(String kidName, UUID playSiteId) {
+        super(RejectionReason.AGE_RESTRICTION, "Kid '%s' does not meet the age restriction for the play site '%s'", kidName, playSiteId);
+    }
+
+    public AgeRestrictionException(String kidName, UUID groupId, UUID playSiteId) {
+        super(RejectionReason.AGE_RESTRICTION, "Kid '%s' of group '%s' does not meet the age restriction for the play site '%s'", kidName, groupId, playSiteId);
     }
 }
@@ -0,0 +1,7 @@
+package org.project.playgrounds.exceptions;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int size, int maxBatchSize) {
+        super(String.format("A batch of %d kids exceeds the maximum of %d kids per request", size, maxBatchSize));
+    }
+}
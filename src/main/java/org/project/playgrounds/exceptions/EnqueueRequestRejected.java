@@ -1,7 +1,19 @@
 package org.project.playgrounds.exceptions;
 
-public class EnqueueRequestRejected extends RuntimeException {
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.util.UUID;
+
+public class EnqueueRequestRejected extends AdmissionRejectedException {
     public EnqueueRequestRejected(String message) {
-        super(message);
+        super(RejectionReason.ENQUEUE_REJECTED, message);
+    }
+
+    public EnqueueRequestRejected(String kidName, UUID playSiteId) {
+        super(RejectionReason.ENQUEUE_REJECTED, "Kid '%s' enqueue rejected for the play site '%s'", kidName, playSiteId);
+    }
+
+    public EnqueueRequestRejected(UUID groupId, UUID playSiteId) {
+        super(RejectionReason.ENQUEUE_REJECTED, "Group '%s' enqueue rejected for the play site '%s'", groupId, playSiteId);
     }
 }
@@ -1,5 +1,6 @@
 package org.project.playgrounds.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -22,6 +23,72 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Rejected admissions are expected outcomes: a full play site or a declined queue conflict with
+     * the current state of the play site, a kid of the wrong age can never be admitted. A full queue
+     * asks the client to come back later, after the Retry-After seconds if the rate is known.
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<Object> handleAdmissionRejectedException(AdmissionRejectedException ex) {
+        HttpStatus status = switch (ex.getReason()) {
+            case AGE_RESTRICTION -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case NO_EQUIPMENT, PLAY_SITE_FULL, ENQUEUE_REJECTED -> HttpStatus.CONFLICT;
+            case QUEUE_FULL -> HttpStatus.TOO_MANY_REQUESTS;
+        };
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+        body.put("reason", ex.getReason());
+        body.put("status", status);
+        HttpHeaders headers = new HttpHeaders();
+        if (ex instanceof QueueFullException queueFull && queueFull.getRetryAfter() != null) {
+            // Whole seconds, rounded up so clients do not come back too early.
+            long seconds = Math.max(1, (queueFull.getRetryAfter().toMillis() + 999) / 1000);
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+            body.put("retry_after", seconds);
+        }
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Object> handleInvalidRequestException(InvalidRequestException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+        body.put("status", HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Batches are admitted in one critical section of their play site, larger ones are turned away
+     * before the lock is taken.
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<Object> handleBatchTooLargeException(BatchTooLargeException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+        body.put("status", HttpStatus.PAYLOAD_TOO_LARGE);
+        return new ResponseEntity<>(body, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * Maps an exception to the same response as the matching exception handler, for callers outside
+     * of the annotated controllers such as the v2 functional handlers.
+     */
+    public ResponseEntity<Object> handleException(Throwable ex) {
+        if (ex instanceof NotFoundException notFoundException) {
+            return handleResourceNotFoundException(notFoundException);
+        }
+        if (ex instanceof AdmissionRejectedException admissionRejectedException) {
+            return handleAdmissionRejectedException(admissionRejectedException);
+        }
+        if (ex instanceof InvalidRequestException invalidRequestException) {
+            return handleInvalidRequestException(invalidRequestException);
+        }
+        if (ex instanceof BatchTooLargeException batchTooLargeException) {
+            return handleBatchTooLargeException(batchTooLargeException);
+        }
+        return handleAllExceptions(ex instanceof Exception exception ? exception : new RuntimeException(ex));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllExceptions(Exception ex) {
         Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,7 @@
+package org.project.playgrounds.exceptions;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,19 @@
 package org.project.playgrounds.exceptions;
 
-public class NoEquipmentFoundException extends RuntimeException {
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.util.UUID;
+
+public class NoEquipmentFoundException extends AdmissionRejectedException {
     public NoEquipmentFoundException(String message) {
-        super(message);
+        super(RejectionReason.NO_EQUIPMENT, message);
+    }
+
+    public NoEquipmentFoundException(String kidName, UUID playSiteId) {
+        super(RejectionReason.NO_EQUIPMENT, "KidRequest '%s' does not accept in play site '%s'. No Equipments found.", kidName, playSiteId);
+    }
+
+    public NoEquipmentFoundException(UUID groupId, UUID playSiteId) {
+        super(RejectionReason.NO_EQUIPMENT, "Group '%s' does not accept in play site '%s'. No Equipments found.", groupId, playSiteId);
     }
 }
@@ -1,7 +1,19 @@
 package org.project.playgrounds.exceptions;
 
-public class PlaySiteFullException extends RuntimeException {
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.util.UUID;
+
+public class PlaySiteFullException extends AdmissionRejectedException {
     public PlaySiteFullException(String message) {
-        super(message);
+        super(RejectionReason.PLAY_SITE_FULL, message);
+    }
+
+    public PlaySiteFullException(String kidName, UUID playSiteId) {
+        super(RejectionReason.PLAY_SITE_FULL, "KidRequest '%s' does not accept in play site '%s'.", kidName, playSiteId);
+    }
+
+    public PlaySiteFullException(int groupSize, UUID playSiteId, int capacity) {
+        super(RejectionReason.PLAY_SITE_FULL, "Group of %d kids does not fit in play site '%s' with capacity %d.", groupSize, playSiteId, capacity);
     }
 }
@@ -0,0 +1,32 @@
+package org.project.playgrounds.exceptions;
+
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class QueueFullException extends AdmissionRejectedException {
+    private final Duration retryAfter;
+
+    public QueueFullException(String message, Duration retryAfter) {
+        super(RejectionReason.QUEUE_FULL, message);
+        this.retryAfter = retryAfter;
+    }
+
+    public QueueFullException(String kidName, UUID playSiteId, Duration retryAfter) {
+        super(RejectionReason.QUEUE_FULL, "Kid '%s' does not fit in the full queue of the play site '%s'", kidName, playSiteId);
+        this.retryAfter = retryAfter;
+    }
+
+    public QueueFullException(UUID groupId, UUID playSiteId, Duration retryAfter) {
+        super(RejectionReason.QUEUE_FULL, "Group '%s' does not fit in the full queue of the play site '%s'", groupId, playSiteId);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * The expected time until the queue has room again, or {@code null} if unknown.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,18 @@
+package org.project.playgrounds.v1.admission;
+
+import org.project.playgrounds.enums.AdmissionPolicy;
+
+public interface AdmissionController {
+  /**
+   * Decides whether kids that cannot play right now are queued or turned away. Called with the
+   * play site lock held, so implementations must be quick and must not block.
+   *
+   * @return {@code true} if the arriving kids are queued.
+   */
+  boolean acceptsWaiting(QueueLoad load);
+
+  /**
+   * The policy this controller implements.
+   */
+  AdmissionPolicy policy();
+}
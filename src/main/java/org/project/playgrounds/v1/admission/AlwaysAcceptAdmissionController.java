@@ -0,0 +1,19 @@
+package org.project.playgrounds.v1.admission;
+
+import org.project.playgrounds.enums.AdmissionPolicy;
+
+/**
+ * Queues every kid, however long the queue.
+ */
+public class AlwaysAcceptAdmissionController implements AdmissionController {
+
+    @Override
+    public boolean acceptsWaiting(QueueLoad load) {
+        return true;
+    }
+
+    @Override
+    public AdmissionPolicy policy() {
+        return AdmissionPolicy.ALWAYS_ACCEPT;
+    }
+}
@@ -0,0 +1,25 @@
+package org.project.playgrounds.v1.admission;
+
+import org.project.playgrounds.enums.AdmissionPolicy;
+
+/**
+ * Queues kids as long as they fit in the maximum queue length of the play site, or in the default
+ * maximum if the play site has none.
+ */
+public class BoundedQueueAdmissionController implements AdmissionController {
+    private final int defaultMaxQueueLength;
+
+    public BoundedQueueAdmissionController(int defaultMaxQueueLength) {
+        this.defaultMaxQueueLength = defaultMaxQueueLength;
+    }
+
+    @Override
+    public boolean acceptsWaiting(QueueLoad load) {
+        return load.queued() + load.arriving() <= load.maxQueueLengthOr(defaultMaxQueueLength);
+    }
+
+    @Override
+    public AdmissionPolicy policy() {
+        return AdmissionPolicy.BOUNDED_QUEUE;
+    }
+}
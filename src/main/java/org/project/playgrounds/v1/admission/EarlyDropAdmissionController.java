@@ -0,0 +1,44 @@
+package org.project.playgrounds.v1.admission;
+
+import org.project.playgrounds.enums.AdmissionPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns kids away with a probability growing with the load, before the queue is full.
+ * <p>
+ * Below half of the maximum queue length and half of the maximum wait every kid is queued. Above
+ * that the drop probability grows linearly with whichever of the queue length and the estimated
+ * wait is closer to its maximum, and reaches one at the maximum. Queues therefore stop growing
+ * gradually instead of filling up and then rejecting everyone.
+ */
+public class EarlyDropAdmissionController implements AdmissionController {
+    private final int defaultMaxQueueLength;
+    private final long maxWaitNanos;
+
+    public EarlyDropAdmissionController(int defaultMaxQueueLength, Duration maxWait) {
+        this.defaultMaxQueueLength = defaultMaxQueueLength;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public boolean acceptsWaiting(QueueLoad load) {
+        int maxQueueLength = load.maxQueueLengthOr(defaultMaxQueueLength);
+        double pressure = Math.max(
+                maxQueueLength <= 0 ? 1.0 : (double) (load.queued() + load.arriving()) / maxQueueLength,
+                maxWaitNanos <= 0 ? 0.0 : (double) load.estimatedWait().toNanos() / maxWaitNanos);
+        if (pressure <= 0.5) {
+            return true;
+        }
+        if (pressure >= 1.0) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() >= (pressure - 0.5) * 2;
+    }
+
+    @Override
+    public AdmissionPolicy policy() {
+        return AdmissionPolicy.EARLY_DROP;
+    }
+}
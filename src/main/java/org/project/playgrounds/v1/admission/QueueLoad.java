@@ -0,0 +1,23 @@
+package org.project.playgrounds.v1.admission;
+
+import java.time.Duration;
+
+/**
+ * The load of a play site queue at the moment kids ask to wait in it.
+ *
+ * @param queued         Kids already waiting.
+ * @param arriving       Kids asking to wait, more than one for a group.
+ * @param maxQueueLength The maximum queue length configured for the play site, {@code null} if the
+ *                       play site leaves it to the admission controller.
+ * @param estimatedWait  The time the last arriving kid is expected to wait, {@link Duration#ZERO}
+ *                       until the play site has seen kids leave.
+ */
+public record QueueLoad(int queued,
+                        int arriving,
+                        Integer maxQueueLength,
+                        Duration estimatedWait) {
+
+    public int maxQueueLengthOr(int defaultMaxQueueLength) {
+        return maxQueueLength == null ? defaultMaxQueueLength : maxQueueLength;
+    }
+}
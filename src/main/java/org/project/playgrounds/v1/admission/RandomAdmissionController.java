@@ -0,0 +1,21 @@
+package org.project.playgrounds.v1.admission;
+
+import org.project.playgrounds.enums.AdmissionPolicy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Every kid accepts waiting with a chance of one in two, whatever the load.
+ */
+public class RandomAdmissionController implements AdmissionController {
+
+    @Override
+    public boolean acceptsWaiting(QueueLoad load) {
+        return ThreadLocalRandom.current().nextInt(2) != 1;
+    }
+
+    @Override
+    public AdmissionPolicy policy() {
+        return AdmissionPolicy.RANDOM;
+    }
+}
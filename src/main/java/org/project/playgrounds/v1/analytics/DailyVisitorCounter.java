@@ -0,0 +1,134 @@
+package org.project.playgrounds.v1.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.v1.dto.DailyVisitorCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the visitors of the current day, in total and per play site.
+ * <p>
+ * Counts are kept in {@link LongAdder}s, so concurrent admissions increment striped cells instead
+ * of contending on a single field, and reads sum the cells without blocking writers. The counter
+ * rolls over at local midnight of the clock's zone and keeps the previous {@code retainedDays}
+ * days.
+ */
+@Component
+@Slf4j
+public class DailyVisitorCounter {
+    private final Clock clock;
+    private final int retainedDays;
+
+    private volatile Day today;
+    // Most recent first, replaced as a whole on rollover.
+    private volatile List<Day> previousDays = List.of();
+
+    public DailyVisitorCounter(Clock clock, @Value("${playground.visitors.retained-days:7}") int retainedDays) {
+        this.clock = clock;
+        this.retainedDays = retainedDays;
+        this.today = new Day(LocalDate.now(clock), clock);
+    }
+
+    /**
+     * Counts one visitor of the given play site.
+     */
+    public void increment(UUID playSiteId) {
+        current().add(playSiteId, 1);
+    }
+
+    /**
+     * Counts a number of visitors of the given play site at once.
+     */
+    public void add(UUID playSiteId, int visitors) {
+        if (visitors > 0) {
+            current().add(playSiteId, visitors);
+        }
+    }
+
+    /**
+     * Returns the total visitor count of the current day.
+     */
+    public long total() {
+        return current().total.sum();
+    }
+
+    /**
+     * Returns the visitor counts of the current day.
+     */
+    public DailyVisitorCount today() {
+        return current().toDailyVisitorCount();
+    }
+
+    /**
+     * Returns the visitor counts of the retained previous days, most recent first.
+     */
+    public List<DailyVisitorCount> previousDays() {
+        current();
+        return previousDays.stream().map(Day::toDailyVisitorCount).toList();
+    }
+
+    private Day current() {
+        Day day = today;
+        if (clock.millis() >= day.endsAt) {
+            day = rollover();
+        }
+        return day;
+    }
+
+    private synchronized Day rollover() {
+        Day day = today;
+        if (clock.millis() < day.endsAt) {
+            // Another thread already rolled over.
+            return day;
+        }
+
+        // Retain the ended day, increments racing with the rollover still land in it.
+        LocalDate date = LocalDate.now(clock);
+        List<Day> days = new ArrayList<>(retainedDays);
+        days.add(day);
+        for (Day previous : previousDays) {
+            if (days.size() >= retainedDays) {
+                break;
+            }
+            days.add(previous);
+        }
+        previousDays = retainedDays > 0 ? List.copyOf(days) : List.of();
+        today = new Day(date, clock);
+        log.info("Visitor count of '{}' closed with {} visitors.", day.date, day.total.sum());
+        return today;
+    }
+
+    private static final class Day {
+        private final LocalDate date;
+        private final long endsAt;
+        private final LongAdder total = new LongAdder();
+        private final ConcurrentMap<UUID, LongAdder> playSites = new ConcurrentHashMap<>();
+
+        private Day(LocalDate date, Clock clock) {
+            this.date = date;
+            this.endsAt = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+
+        private void add(UUID playSiteId, int visitors) {
+            LongAdder playSite = playSites.get(playSiteId);
+            if (playSite == null) {
+                playSite = playSites.computeIfAbsent(playSiteId, id -> new LongAdder());
+            }
+            playSite.add(visitors);
+            total.add(visitors);
+        }
+
+        private DailyVisitorCount toDailyVisitorCount() {
+            Map<UUID, Long> counts = new HashMap<>(playSites.size());
+            playSites.forEach((id, count) -> counts.put(id, count.sum()));
+            return new DailyVisitorCount(date, total.sum(), counts);
+        }
+    }
+}
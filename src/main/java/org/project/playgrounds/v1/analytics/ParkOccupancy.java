@@ -0,0 +1,87 @@
+package org.project.playgrounds.v1.analytics;
+
+import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.v1.dto.Equipment;
+import org.project.playgrounds.v1.dto.OccupancyResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Park wide occupancy aggregates over all play sites: kids on site, kids queued and capacity, in
+ * total and per equipment type.
+ * <p>
+ * The play sites update the counters as their kids change, so reads are a handful of
+ * {@link LongAdder} sums and never iterate the play sites. The counters are updated independently,
+ * a read racing with admissions may see one counter a few events ahead of another.
+ */
+@Component
+public class ParkOccupancy {
+    private final LongAdder onSite = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder capacity = new LongAdder();
+    private final Map<EquipmentType, LongAdder> capacityByEquipment = new EnumMap<>(EquipmentType.class);
+
+    public ParkOccupancy() {
+        for (EquipmentType equipmentType : EquipmentType.values()) {
+            capacityByEquipment.put(equipmentType, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds the capacity of the equipments of a new play site.
+     */
+    public void addEquipments(Collection<Equipment> equipments) {
+        for (Equipment equipment : equipments) {
+            capacityByEquipment.get(equipment.name()).add(equipment.capacity());
+            capacity.add(equipment.capacity());
+        }
+    }
+
+    /**
+     * Removes the capacity of equipments taken off a play site.
+     */
+    public void removeEquipments(Collection<Equipment> equipments) {
+        for (Equipment equipment : equipments) {
+            capacityByEquipment.get(equipment.name()).add(-equipment.capacity());
+            capacity.add(-equipment.capacity());
+        }
+    }
+
+    public void onSiteChanged(int delta) {
+        onSite.add(delta);
+    }
+
+    public void queuedChanged(int delta) {
+        queued.add(delta);
+    }
+
+    public long totalOnSite() {
+        return onSite.sum();
+    }
+
+    public long totalQueued() {
+        return queued.sum();
+    }
+
+    public long totalCapacity() {
+        return capacity.sum();
+    }
+
+    public OccupancyResponse toResponse() {
+        long totalOnSite = onSite.sum();
+        long totalCapacity = capacity.sum();
+        Map<EquipmentType, Long> byEquipment = new EnumMap<>(EquipmentType.class);
+        capacityByEquipment.forEach((equipmentType, count) -> byEquipment.put(equipmentType, count.sum()));
+        return new OccupancyResponse(
+                totalOnSite,
+                queued.sum(),
+                totalCapacity,
+                Math.max(totalCapacity - totalOnSite, 0),
+                byEquipment
+        );
+    }
+}
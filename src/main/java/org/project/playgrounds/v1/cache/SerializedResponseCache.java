@@ -0,0 +1,140 @@
+package org.project.playgrounds.v1.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the JSON bytes of play site reads, so unchanged play sites are served without running
+ * Jackson again.
+ * <p>
+ * There is one entry per play site and view, holding the version of the play site the bytes were
+ * serialized at. A lookup with any other version is a miss and the next serialization replaces the
+ * entry, so a version bump invalidates the cached bytes. The cache is bounded by the total size of
+ * the cached bytes and evicts the least recently used entries first.
+ * <p>
+ * Lookups take no lock: a hit only stamps the entry with the time of the access, and the entries
+ * are ordered by these stamps when something has to be evicted. Only caching new bytes is
+ * serialized, so the byte count and the evictions stay consistent.
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+
+    public enum View {
+        PLAY_SITE,
+        PLAY_SITE_KIDS,
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    // Versions restart at zero with the process, the boot id tells their ETags apart.
+    private final String bootId = Long.toHexString(new SecureRandom().nextLong());
+
+    // Read without a lock, changed and counted under the monitor of the cache.
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long bytes;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${playground.response-cache.max-bytes:16777216}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached bytes of the view of the play site at the given version, or serializes the
+     * supplied value and caches it. The value must not be older than the version.
+     */
+    public byte[] get(UUID playSiteId, View view, long version, Supplier<?> value) {
+        Key key = new Key(playSiteId, view);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version == version) {
+            entry.lastAccess = System.nanoTime();
+            return entry.bytes;
+        }
+
+        byte[] serialized;
+        try {
+            serialized = objectMapper.writeValueAsBytes(value.get());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        put(key, new Entry(version, serialized));
+        return serialized;
+    }
+
+    /**
+     * Returns the ETag of the play site at the given version. It is made of the id of this process,
+     * the play site id and the version, so a tag seen before a restart never matches afterwards.
+     */
+    public String eTag(UUID playSiteId, long version) {
+        return bootId + "-" + playSiteId + "-" + version;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total size of the cached bytes.
+     */
+    public long sizeInBytes() {
+        return bytes;
+    }
+
+    private synchronized void put(Key key, Entry entry) {
+        if (entry.bytes.length > maxBytes) {
+            return;
+        }
+        Entry previous = entries.get(key);
+        if (previous != null) {
+            if (previous.version > entry.version) {
+                // A concurrent read already cached a newer version.
+                return;
+            }
+            bytes -= previous.bytes.length;
+        }
+        entries.put(key, entry);
+        bytes += entry.bytes.length;
+
+        // Evict the least recently used entries until the cache fits again.
+        while (bytes > maxBytes) {
+            Map.Entry<Key, Entry> eldest = null;
+            for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                if (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = candidate;
+                }
+            }
+            bytes -= eldest.getValue().bytes.length;
+            entries.remove(eldest.getKey());
+            log.debug("Evicted cached {} of play site '{}'.", eldest.getKey().view, eldest.getKey().playSiteId);
+        }
+    }
+
+    private record Key(UUID playSiteId, View view) {
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final byte[] bytes;
+        // Time of the last access, written by lookups without a lock.
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(long version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
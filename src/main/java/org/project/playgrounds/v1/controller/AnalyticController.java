@@ -2,11 +2,20 @@ package org.project.playgrounds.v1.controller;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.project.playgrounds.exceptions.NotFoundException;
+import org.project.playgrounds.v1.dto.OccupancyResponse;
+import org.project.playgrounds.v1.dto.PlaySiteChange;
+import org.project.playgrounds.v1.dto.PlaySiteUtilizationResponse;
+import org.project.playgrounds.v1.dto.VisitorCountResponse;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
 import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -16,6 +25,7 @@ import java.util.UUID;
 public class AnalyticController {
 
     private final IPlaygroundService playgroundService;
+    private final PlaySiteEventPublisher eventPublisher;
 
     /**
      * Gets the utilization of a play site.
@@ -27,6 +37,43 @@ public class AnalyticController {
         return ResponseEntity.ok().body(playgroundService.getPlaySiteUtilization(playSiteUUID));
     }
 
+    /**
+     * Streams the changes of a play site as Server-Sent Events, starting with its current state.
+     * Changes arriving faster than the subscriber reads are coalesced into the latest state.
+     * @param `play-site-id` The play site to stream the changes of.
+     * @return The event stream of {@code PlaySiteChange}s, or not found without a body as event stream clients do not accept JSON errors.
+     */
+    @GetMapping(path = "/play-site/{play-site-id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPlaySiteChanges(@NotNull @PathVariable("play-site-id") UUID playSiteUUID) {
+        try {
+            playgroundService.getPlaySiteSummary(playSiteUUID);
+        } catch (NotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().body(eventPublisher.subscribe(playSiteUUID,
+                () -> List.of(PlaySiteChange.of(playgroundService.getPlaySiteSummary(playSiteUUID)))));
+    }
+
+    /**
+     * Streams the changes of all play sites as Server-Sent Events, starting with their current state.
+     * Changes arriving faster than the subscriber reads are coalesced into the latest state per play site.
+     * @return The event stream of {@code PlaySiteChange}s.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlaySitesChanges() {
+        return eventPublisher.subscribe(null,
+                () -> playgroundService.getPlaySiteSummaries().stream().map(PlaySiteChange::of).toList());
+    }
+
+    /**
+     * Gets the utilization of all play sites in one response.
+     * @return The utilization of every play site, as a percentage.
+     */
+    @GetMapping("/utilization")
+    public ResponseEntity<List<PlaySiteUtilizationResponse>> getPlaySitesUtilization() {
+        return ResponseEntity.ok().body(playgroundService.getPlaySitesUtilization());
+    }
+
     /**
      * Gets the total visitor count for all play sites during the current day.
      * @return The total visitor count.
@@ -37,5 +84,39 @@ public class AnalyticController {
         return ResponseEntity.ok().body(totalVisitorCount);
     }
 
-    // Add more stats for total queued/ total onSite
+    /**
+     * Gets the visitor count of the current day per play site and of the retained previous days.
+     * @return The visitor counts, the current day first.
+     */
+    @GetMapping("/visitor-count")
+    public ResponseEntity<VisitorCountResponse> getVisitorCounts() {
+        return ResponseEntity.ok().body(playgroundService.getVisitorCounts());
+    }
+
+    /**
+     * Gets the park wide occupancy: kids on site, kids queued, free capacity and capacity per equipment type.
+     * @return The occupancy over all play sites.
+     */
+    @GetMapping("/occupancy")
+    public ResponseEntity<OccupancyResponse> getOccupancy() {
+        return ResponseEntity.ok().body(playgroundService.getOccupancy());
+    }
+
+    /**
+     * Gets the number of kids playing on all play sites.
+     * @return The total number of kids on site.
+     */
+    @GetMapping("/total-on-site")
+    public ResponseEntity<Long> getTotalOnSite() {
+        return ResponseEntity.ok().body(playgroundService.getTotalOnSite());
+    }
+
+    /**
+     * Gets the number of kids waiting in the queues of all play sites.
+     * @return The total number of kids queued.
+     */
+    @GetMapping("/total-queued")
+    public ResponseEntity<Long> getTotalQueued() {
+        return ResponseEntity.ok().body(playgroundService.getTotalQueued());
+    }
 }
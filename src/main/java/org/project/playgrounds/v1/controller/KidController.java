@@ -1,14 +1,21 @@
 package org.project.playgrounds.v1.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.project.playgrounds.enums.StatusType;
+import org.project.playgrounds.v1.cache.SerializedResponseCache;
+import org.project.playgrounds.v1.dto.AdmissionResult;
+import org.project.playgrounds.v1.dto.GroupReservation;
 import org.project.playgrounds.v1.dto.Kid;
 import org.project.playgrounds.v1.dto.KidRequest;
 import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -22,6 +29,7 @@ import java.util.UUID;
 public class KidController {
 
     private final IPlaygroundService playgroundService;
+    private final SerializedResponseCache responseCache;
 
     /**
      * Adds a kid to a play site.
@@ -42,6 +50,63 @@ public class KidController {
         return ResponseEntity.created(location).body(kid.ticketNumber().toString());
     }
 
+    /**
+     * Adds a group of kids to a play site at once.
+     *
+     * @param kidRequests The kids to add, in arrival order.
+     * @param 'play-site-id' The play site to add the kids to.
+     * @return {@code List<AdmissionResult>} with the outcome of every kid in request order: admitted, queued or rejected with a reason.
+     */
+    @PostMapping("/play-site/{play-site-id}/batch")
+    public ResponseEntity<List<AdmissionResult>> addKidsToPlaySite(
+            @NotNull @PathVariable("play-site-id") UUID playSiteUUID,
+            @NotEmpty @RequestBody List<@Valid KidRequest> kidRequests) {
+        return ResponseEntity.ok().body(playgroundService.addKidsToPlaySite(playSiteUUID, kidRequests));
+    }
+
+    /**
+     * Reserves seats for a group of kids at once, all of them play or all of them wait next to each other in the queue.
+     *
+     * @param kidRequests The kids of the group.
+     * @param 'play-site-id' The play site to add the group to.
+     * @return {@code GroupReservation} with the group id and the kids, or {throw exception} if the group cannot be admitted as a whole.
+     */
+    @PostMapping("/play-site/{play-site-id}/group")
+    public ResponseEntity<GroupReservation> reserveGroup(
+            @NotNull @PathVariable("play-site-id") UUID playSiteUUID,
+            @NotEmpty @RequestBody List<@Valid KidRequest> kidRequests) {
+        GroupReservation reservation = playgroundService.reserveGroup(playSiteUUID, kidRequests);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/kids/groups/{group-id}")
+                .buildAndExpand(reservation.groupId().toString())
+                .toUri();
+        return ResponseEntity.created(location).body(reservation);
+    }
+
+    /**
+     * Return the kids of a group which are still playing or waiting.
+     *
+     * @param 'group-id' The group id.
+     * @return {@code List<Kid>} in reservation order, or throw not found exception.
+     */
+    @GetMapping("/groups/{group-id}")
+    public ResponseEntity<List<Kid>> getGroupKids(
+            @Valid @NotNull @PathVariable("group-id") UUID groupId) {
+        return ResponseEntity.ok().body(playgroundService.getGroupKids(groupId));
+    }
+
+    /**
+     * Removes all kids of a group from the play site and its queue.
+     *
+     * @param 'group-id' The group id.
+     * @return {@code true} if kids were removed, or {@code false} if the group is unknown.
+     */
+    @DeleteMapping("/groups/{group-id}")
+    public ResponseEntity<Boolean> removeGroup(
+            @Valid @NotNull @PathVariable("group-id") UUID groupId) {
+        return ResponseEntity.ok().body(playgroundService.removeGroup(groupId));
+    }
+
     /**
      * Removes a kid from a play site.
      *
@@ -60,16 +125,18 @@ public class KidController {
      *
      * @param kidRequest    The kid to enqueue.
      * @param 'play-site-id The play site to enqueue the kid to.
-     * @return {@code Kid} if the kid was enqueued successfully, or {throw exception} if the kid does not want to wait.
+     * @return {@code UUID} of the ticket if the kid was enqueued successfully, or played at once on free seats, or {throw exception} if the kid does not want to wait.
      */
     @PostMapping("/play-site/{play-site-id}/queue")
     public ResponseEntity<String> enqueueKid(
             @Valid @NotNull @PathVariable("play-site-id") UUID playSiteUUID,
             @Valid @RequestBody KidRequest kidRequest) {
         Kid kid = playgroundService.enqueueKid(playSiteUUID, kidRequest);
-        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
-                .path("/{ticket-number}")
-                .buildAndExpand(kid.ticketNumber().toString())
+        // A kid let in at once by a play site with free seats is found among the playing kids.
+        String collection = kid.status() == StatusType.PLAYING ? "playing" : "queue";
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/kids/play-site/{play-site-id}/{collection}/{ticket-number}")
+                .buildAndExpand(playSiteUUID.toString(), collection, kid.ticketNumber().toString())
                 .toUri();
         return ResponseEntity.created(location).body(kid.ticketNumber().toString());
     }
@@ -107,12 +174,44 @@ public class KidController {
      * Return list kid from a play site.
      *
      * @param 'play-site-id The play site to dequeue the kid to.
-     * @return {@code List<Kid>} if the kid was removed successfully, or throw not found exception.
+     * @return {@code List<Kid>} with an ETag of the play site version, not modified if the ETag matches {@code If-None-Match}, or throw not found exception.
      */
     @GetMapping("/play-site/{play-site-id}")
-    public ResponseEntity<List<Kid>> playSiteKids(
-            @Valid @NotNull @PathVariable("play-site-id") UUID playSiteUUID) {
-        return ResponseEntity.ok().body(playgroundService.getPlaySiteKids(playSiteUUID));
+    public ResponseEntity<byte[]> playSiteKids(
+            @Valid @NotNull @PathVariable("play-site-id") UUID playSiteUUID, WebRequest webRequest) {
+        // The version is read before the kids, so the body is never older than its ETag.
+        long version = playgroundService.getPlaySiteVersion(playSiteUUID);
+        String eTag = responseCache.eTag(playSiteUUID, version);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        byte[] body = responseCache.get(playSiteUUID, SerializedResponseCache.View.PLAY_SITE_KIDS, version,
+                () -> playgroundService.getPlaySiteKids(playSiteUUID));
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Return kid by ticket number, playing or waiting on any play site.
+     *
+     * @param 'ticket-number' kid ticket number.
+     * @return {@code Kid} if the ticket is known, or throw not found exception
+     */
+    @GetMapping("/{ticket-number}")
+    public ResponseEntity<Kid> getKid(
+            @Valid @NotNull @PathVariable("ticket-number") UUID ticketNumber) {
+        return ResponseEntity.ok().body(playgroundService.getKid(ticketNumber));
+    }
+
+    /**
+     * Removes a kid by ticket number from whichever play site or queue holds it.
+     *
+     * @param 'ticket-number' The kid to remove.
+     * @return {@code true} if the kid was removed successfully, or {@code false} if the ticket is unknown.
+     */
+    @DeleteMapping("/{ticket-number}")
+    public ResponseEntity<Boolean> removeKid(
+            @Valid @NotNull @PathVariable("ticket-number") UUID ticketNumber) {
+        return ResponseEntity.ok().body(playgroundService.removeKid(ticketNumber));
     }
 
     /**
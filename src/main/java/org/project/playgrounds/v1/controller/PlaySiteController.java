@@ -1,29 +1,62 @@
 package org.project.playgrounds.v1.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
+import org.project.playgrounds.v1.cache.SerializedResponseCache;
+import org.project.playgrounds.v1.dto.EquipmentRequest;
 import org.project.playgrounds.v1.dto.EquipmentResponse;
+import org.project.playgrounds.v1.dto.PlaySitePage;
+import org.project.playgrounds.v1.dto.PlaySiteProvisioningResult;
 import org.project.playgrounds.v1.dto.PlaySiteRequest;
-import org.project.playgrounds.v1.dto.PlaySite;
 import org.project.playgrounds.v1.dto.PlaySiteResponse;
+import org.project.playgrounds.v1.dto.PlaySiteSummary;
 import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/play-sites")
-@AllArgsConstructor
 @Validated
 public class PlaySiteController {
+    private static final int DEFAULT_PAGE_SIZE = 100;
 
     private final IPlaygroundService playgroundService;
+    private final ObjectMapper objectMapper;
+    private final SerializedResponseCache responseCache;
+    private final int maxBulkLines;
+
+    public PlaySiteController(IPlaygroundService playgroundService, ObjectMapper objectMapper, SerializedResponseCache responseCache,
+                              @Value("${playground.bulk.max-lines:10000}") int maxBulkLines) {
+        this.playgroundService = playgroundService;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.maxBulkLines = maxBulkLines;
+    }
 
     /**
      * Creates a new play site.
@@ -44,6 +77,69 @@ public class PlaySiteController {
         return ResponseEntity.created(location).body(uuid.toString());
     }
 
+    /**
+     * Creates play sites in bulk from a JSON array.
+     *
+     * @return {@code List<PlaySiteProvisioningResult>} with the id of the created play site or the errors of every line, in request order.
+     * {@code @body} PlaySiteRequest array.
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PlaySiteProvisioningResult>> createPlaySites(
+            @NotEmpty @RequestBody List<@Valid PlaySiteRequest> requests) {
+        return ResponseEntity.ok().body(playgroundService.createPlaySites(requests));
+    }
+
+    /**
+     * Creates play sites in bulk from newline delimited JSON, one PlaySiteRequest per line. Every
+     * line is provisioned as soon as it is read and its result written out, so neither the upload
+     * nor the results are held in memory. Blank lines are skipped, lines beyond the maximum are
+     * not read and reported as one failed line.
+     *
+     * @return {@code List<PlaySiteProvisioningResult>} with the id of the created play site or the errors of every line, in request order.
+     * {@code @body} PlaySiteRequest per line, lines which cannot be read are reported as failed.
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createPlaySitesFromLines(InputStream body, HttpServletResponse response) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(PlaySiteRequest.class);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            int line = 0;
+            int provisioned = 0;
+            String text;
+            while ((text = lines.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (provisioned == maxBulkLines) {
+                    generator.writeObject(new PlaySiteProvisioningResult(line, null,
+                            List.of(String.format("bulk request exceeds the maximum of %d lines", maxBulkLines))));
+                    break;
+                }
+                generator.writeObject(playgroundService.provisionPlaySite(line, readPlaySiteRequest(reader, text)));
+                generator.flush();
+                provisioned++;
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Replaces the equipments of a play site, its kids and queue are kept.
+     *
+     * @param id The id of the play site.
+     * @return The summary of the play site with its new capacity.
+     * {@code @body} EquipmentRequest array, kids that no longer fit go back to the head of the queue.
+     */
+    @PutMapping(path = "/{id}/equipments", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PlaySiteSummary> updateEquipments(
+            @NotNull @PathVariable UUID id,
+            @NotEmpty @RequestBody Set<@Valid EquipmentRequest> equipments) {
+        return ResponseEntity.ok().body(playgroundService.updateEquipments(id, equipments));
+    }
+
     /**
      * Gets a list of all play sites equipments.
      *
@@ -55,24 +151,116 @@ public class PlaySiteController {
     }
 
     /**
-     * Gets a list of all play sites.
+     * Gets a list of all play sites, or one page of them ordered by id when a limit is given.
      *
-     * @return A list of all play sites.
+     * @param cursor The id of the last play site of the previous page.
+     * @param limit The maximum number of play sites of the page.
+     * @return A list of play sites, with a {@code Link} header to the next page if there is one.
      */
     @GetMapping("/list")
-    public ResponseEntity<List<PlaySiteResponse>> getPlaySites() {
-        return ResponseEntity.ok().body(playgroundService.getPlaySites());
+    public ResponseEntity<List<PlaySiteResponse>> getPlaySites(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok().body(playgroundService.getPlaySites());
+        }
+
+        return pageResponse(playgroundService.getPlaySites(cursor, limit == null ? DEFAULT_PAGE_SIZE : limit));
+    }
+
+    /**
+     * Gets the summaries of all play sites, or one page of them ordered by id when a limit is given.
+     * A summary carries the headline numbers of a play site without its kids.
+     *
+     * @param cursor The id of the last play site of the previous page.
+     * @param limit The maximum number of play sites of the page.
+     * @return A list of play site summaries, with a {@code Link} header to the next page if there is one.
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<List<PlaySiteSummary>> getPlaySiteSummaries(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok().body(playgroundService.getPlaySiteSummaries());
+        }
+        return pageResponse(playgroundService.getPlaySiteSummaries(cursor, limit == null ? DEFAULT_PAGE_SIZE : limit));
+    }
+
+    /**
+     * Streams all play sites as newline delimited JSON, each play site is written to the response
+     * as soon as it is read so the listing is never held in memory as a whole.
+     *
+     * @param cursor The id of the play site to start after.
+     * @param limit The maximum number of play sites to stream.
+     * @return One play site per line, ordered by id.
+     */
+    @GetMapping(path = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlaySites(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) Integer limit) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+                 Stream<PlaySiteResponse> playSites = playgroundService.streamPlaySites(cursor)) {
+                generator.setRootValueSeparator(null);
+                Iterator<PlaySiteResponse> iterator = playSites.limit(limit == null ? Long.MAX_VALUE : Math.max(limit, 0)).iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Gets a play site by name.
      *
      * @param id The id of the play site.
-     * @return The play site, or {@code null} if no such play site exists.
+     * @return The play site with an ETag of its version, not modified if the ETag matches {@code If-None-Match}, or {@code null} if no such play site exists.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlaySite> getPlaySite(@NotNull @PathVariable UUID id) {
-        return ResponseEntity.ok().body(playgroundService.getPlaySite(id));
+    public ResponseEntity<byte[]> getPlaySite(@NotNull @PathVariable UUID id, WebRequest webRequest) {
+        // The version is read before the play site, so the body is never older than its ETag.
+        long version = playgroundService.getPlaySiteVersion(id);
+        String eTag = responseCache.eTag(id, version);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        byte[] body = responseCache.get(id, SerializedResponseCache.View.PLAY_SITE, version,
+                () -> playgroundService.getPlaySite(id));
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Gets the summary of a play site.
+     *
+     * @param id The id of the play site.
+     * @return The headline numbers of the play site, or throw not found exception.
+     */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<PlaySiteSummary> getPlaySiteSummary(@NotNull @PathVariable UUID id) {
+        return ResponseEntity.ok().body(playgroundService.getPlaySiteSummary(id));
+    }
+
+    private static <T> ResponseEntity<List<T>> pageResponse(PlaySitePage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .build()
+                    .toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.playSites());
+    }
+
+    private static PlaySiteRequest readPlaySiteRequest(ObjectReader reader, String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            // Reported by the service as an unreadable line.
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,41 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.project.playgrounds.enums.AdmissionStatus;
+import org.project.playgrounds.enums.RejectionReason;
+
+import java.time.Duration;
+
+/**
+ * Outcome of admitting one kid, alone or as part of a batch. Admitted and queued kids carry their {@link Kid} with
+ * the ticket number, rejected kids carry the name they were requested with and the reason. Kids
+ * turned away by a full queue also carry the seconds after which the queue is expected to have room.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AdmissionResult(String name,
+                              AdmissionStatus status,
+                              Kid kid,
+                              RejectionReason reason,
+                              @JsonProperty("retry_after") Long retryAfter) {
+
+    public static AdmissionResult admitted(Kid kid) {
+        return new AdmissionResult(kid.name(), AdmissionStatus.ADMITTED, kid, null, null);
+    }
+
+    public static AdmissionResult queued(Kid kid) {
+        return new AdmissionResult(kid.name(), AdmissionStatus.QUEUED, kid, null, null);
+    }
+
+    public static AdmissionResult rejected(String name, RejectionReason reason) {
+        return new AdmissionResult(name, AdmissionStatus.REJECTED, null, reason, null);
+    }
+
+    /**
+     * A kid turned away by a full queue, the wait is rounded up to whole seconds.
+     */
+    public static AdmissionResult queueFull(String name, Duration retryAfter) {
+        Long seconds = retryAfter == null ? null : Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return new AdmissionResult(name, AdmissionStatus.REJECTED, null, RejectionReason.QUEUE_FULL, seconds);
+    }
+}
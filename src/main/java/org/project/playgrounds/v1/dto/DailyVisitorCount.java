@@ -0,0 +1,12 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+public record DailyVisitorCount(LocalDate date,
+                                Long total,
+                                @JsonProperty("play_sites") Map<UUID, Long> playSites) {
+}
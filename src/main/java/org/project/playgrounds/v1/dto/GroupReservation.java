@@ -0,0 +1,12 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.project.playgrounds.enums.StatusType;
+
+import java.util.List;
+import java.util.UUID;
+
+public record GroupReservation(@JsonProperty("group_id") UUID groupId,
+                               StatusType status,
+                               List<Kid> kids) {
+}
@@ -0,0 +1,13 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.project.playgrounds.enums.EquipmentType;
+
+import java.util.Map;
+
+public record OccupancyResponse(@JsonProperty("total_on_site") Long totalOnSite,
+                                @JsonProperty("total_queued") Long totalQueued,
+                                @JsonProperty("total_capacity") Long totalCapacity,
+                                @JsonProperty("free_capacity") Long freeCapacity,
+                                @JsonProperty("capacity_by_equipment") Map<EquipmentType, Long> capacityByEquipment) {
+}
@@ -14,21 +14,16 @@ public record PlaySite(UUID id,
                        @JsonProperty("age_restriction") Integer ageRestriction,
                        Set<Equipment> equipments,
                        @JsonProperty("kids_on_site") List<Kid> kidsOnSite,
-                       @JsonProperty("kid_queue") Queue<Kid> kidQueue) {
+                       @JsonProperty("kid_queue") Queue<Kid> kidQueue,
+                       @JsonProperty("capacity") Integer capacity) {
 
     @JsonProperty("is_play_site_full")
     public Boolean isPlaySiteFull() {
-        return kidsOnSite.size() == capacity();
+        return kidsOnSite.size() >= capacity;
     }
 
     @JsonProperty("occupied_capacity")
     public Integer occupiedCapacity() {
         return kidsOnSite.size();
     }
-
-    @JsonProperty("capacity")
-    public Integer capacity() {
-        return equipments().stream().mapToInt(Equipment::capacity)
-                .reduce(0, Integer::sum);
-    }
 }
@@ -0,0 +1,84 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.project.playgrounds.enums.PlaySiteChangeType;
+
+import java.util.UUID;
+
+/**
+ * Change of a play site pushed to event stream subscribers: how many kids were admitted,
+ * enqueued, promoted, removed, dequeued and moved back to the queue by a smaller capacity since the
+ * previous event of the play site, and the state of the play site after the latest of these changes.
+ */
+public record PlaySiteChange(UUID id,
+                             Long version,
+                             Integer admitted,
+                             Integer enqueued,
+                             Integer promoted,
+                             Integer removed,
+                             Integer dequeued,
+                             Integer demoted,
+                             @JsonProperty("occupied_capacity") Integer occupiedCapacity,
+                             Integer queued,
+                             Double utilization) {
+
+    public static PlaySiteChange of(PlaySiteChangeType type, UUID id, long version, int occupiedCapacity, int queued,
+                                    double utilization) {
+        return of(type, 1, id, version, occupiedCapacity, queued, utilization);
+    }
+
+    /**
+     * Returns a change of as many kids as given at once, such as all kids promoted in one pass.
+     */
+    public static PlaySiteChange of(PlaySiteChangeType type, int kids, UUID id, long version, int occupiedCapacity,
+                                    int queued, double utilization) {
+        return new PlaySiteChange(
+                id,
+                version,
+                type == PlaySiteChangeType.ADMITTED ? kids : 0,
+                type == PlaySiteChangeType.ENQUEUED ? kids : 0,
+                type == PlaySiteChangeType.PROMOTED ? kids : 0,
+                type == PlaySiteChangeType.REMOVED ? kids : 0,
+                type == PlaySiteChangeType.DEQUEUED ? kids : 0,
+                type == PlaySiteChangeType.DEMOTED ? kids : 0,
+                occupiedCapacity,
+                queued,
+                utilization
+        );
+    }
+
+    /**
+     * Returns the current state of the play site without any change.
+     */
+    public static PlaySiteChange of(PlaySiteSummary summary) {
+        return new PlaySiteChange(
+                summary.id(),
+                summary.version(),
+                0, 0, 0, 0, 0, 0,
+                summary.occupiedCapacity(),
+                summary.queued(),
+                summary.utilization()
+        );
+    }
+
+    /**
+     * Combines this change with a later change of the same play site: the counts add up and the
+     * state is the one of the newest version.
+     */
+    public PlaySiteChange coalesce(PlaySiteChange other) {
+        PlaySiteChange latest = other.version >= version ? other : this;
+        return new PlaySiteChange(
+                id,
+                latest.version,
+                admitted + other.admitted,
+                enqueued + other.enqueued,
+                promoted + other.promoted,
+                removed + other.removed,
+                dequeued + other.dequeued,
+                demoted + other.demoted,
+                latest.occupiedCapacity,
+                latest.queued,
+                latest.utilization
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of a play site listing, ordered by play site id. The next cursor is the id of the
+ * last play site of the page, or {@code null} on the last page.
+ */
+public record PlaySitePage<T>(@JsonProperty("play_sites") List<T> playSites,
+                              @JsonProperty("next_cursor") UUID nextCursor) {
+}
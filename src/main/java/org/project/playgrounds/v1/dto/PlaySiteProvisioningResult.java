@@ -0,0 +1,16 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one line of a bulk play site request: the id of the created play site, or the
+ * validation errors of the line.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PlaySiteProvisioningResult(Integer line,
+                                         UUID id,
+                                         List<String> errors) {
+}
@@ -1,10 +1,12 @@
 package org.project.playgrounds.v1.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
+import java.time.Duration;
 import java.util.Set;
 
 @JsonSerialize
@@ -13,5 +15,20 @@ public record PlaySiteRequest(
         @JsonProperty("age_restriction")
         @Min(1)
         @NotNull(message = "age restriction must not be null") Integer ageRestriction,
-       @NotEmpty Set<EquipmentRequest> equipments) {
+       @NotEmpty Set<EquipmentRequest> equipments,
+        @JsonProperty("max_queue_length")
+        @Min(0) Integer maxQueueLength,
+        @JsonProperty("max_play_duration") Duration maxPlayDuration) {
+
+    @JsonCreator
+    public PlaySiteRequest {
+    }
+
+    public PlaySiteRequest(String name, Integer ageRestriction, Set<EquipmentRequest> equipments) {
+        this(name, ageRestriction, equipments, null);
+    }
+
+    public PlaySiteRequest(String name, Integer ageRestriction, Set<EquipmentRequest> equipments, Integer maxQueueLength) {
+        this(name, ageRestriction, equipments, maxQueueLength, null);
+    }
 }
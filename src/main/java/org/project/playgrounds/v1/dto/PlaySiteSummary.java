@@ -0,0 +1,21 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * Headline numbers of a play site without its kids, read from the counters the play site
+ * maintains on every admission and removal.
+ */
+public record PlaySiteSummary(UUID id,
+                              Long version,
+                              String name,
+                              @JsonProperty("age_restriction") Integer ageRestriction,
+                              Integer capacity,
+                              @JsonProperty("occupied_capacity") Integer occupiedCapacity,
+                              @JsonProperty("queued") Integer queued,
+                              @JsonProperty("max_queue_length") Integer maxQueueLength,
+                              Double utilization,
+                              @JsonProperty("is_play_site_full") Boolean isPlaySiteFull) {
+}
@@ -0,0 +1,6 @@
+package org.project.playgrounds.v1.dto;
+
+import java.util.UUID;
+
+public record PlaySiteUtilizationResponse(UUID id, String name, Double utilization) {
+}
@@ -0,0 +1,9 @@
+package org.project.playgrounds.v1.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record VisitorCountResponse(DailyVisitorCount today,
+                                   @JsonProperty("previous_days") List<DailyVisitorCount> previousDays) {
+}
@@ -0,0 +1,150 @@
+package org.project.playgrounds.v1.events;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.v1.dto.PlaySiteChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pushes play site changes to Server-Sent Events subscribers.
+ * <p>
+ * Changes are not queued per subscriber: every subscriber keeps at most one pending change per
+ * play site, and a change arriving before the previous one was sent is coalesced into it. A slow
+ * subscriber therefore receives the latest state of every play site with the summed counts,
+ * instead of an ever growing backlog. Each subscriber is flushed by at most one task at a time.
+ * Publishing is a single volatile read while nobody is subscribed.
+ */
+@Component
+@Slf4j
+public class PlaySiteEventPublisher {
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor;
+    // Only the fallback pool is shut down here, the executor bean is closed by its context.
+    private final boolean ownsExecutor;
+    private final long timeout;
+
+    public PlaySiteEventPublisher(Duration timeout) {
+        this(timeout, Optional.empty());
+    }
+
+    /**
+     * Flushes the subscribers on the {@code playSiteEventExecutor} bean when there is one, on a
+     * cached pool of daemon threads otherwise.
+     */
+    @Autowired
+    public PlaySiteEventPublisher(@Value("${playground.events.timeout:30m}") Duration timeout,
+                                  @Qualifier("playSiteEventExecutor") Optional<ExecutorService> executor) {
+        this.timeout = timeout.toMillis();
+        this.ownsExecutor = executor.isEmpty();
+        this.executor = executor.orElseGet(() -> Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "play-site-events");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Hands the change to every subscriber of the play site.
+     */
+    public void publish(PlaySiteChange change) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(change);
+        }
+    }
+
+    /**
+     * Subscribes to the changes of one play site, or of all play sites if the id is {@code null}.
+     * The current state is read once the subscriber is registered and sent first, so no change in
+     * between is missed.
+     */
+    public SseEmitter subscribe(UUID playSiteId, Supplier<Collection<PlaySiteChange>> current) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter, playSiteId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        current.get().forEach(subscriber::offer);
+        log.info("Subscribed to changes of play site '{}', {} subscribers.", playSiteId == null ? "all" : playSiteId, subscribers.size());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID playSiteId;
+        private final ConcurrentMap<UUID, PlaySiteChange> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, UUID playSiteId) {
+            this.emitter = emitter;
+            this.playSiteId = playSiteId;
+        }
+
+        private void offer(PlaySiteChange change) {
+            if (playSiteId != null && !playSiteId.equals(change.id())) {
+                return;
+            }
+            pending.merge(change.id(), change, PlaySiteChange::coalesce);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            try {
+                do {
+                    for (UUID id : pending.keySet()) {
+                        PlaySiteChange change = pending.remove(id);
+                        if (change != null) {
+                            emitter.send(SseEmitter.event()
+                                    .name("play-site")
+                                    .id(change.id() + ":" + change.version())
+                                    .data(change, MediaType.APPLICATION_JSON));
+                        }
+                    }
+                    scheduled.set(false);
+                    // Changes offered after the last send but before the flag was cleared.
+                } while (!pending.isEmpty() && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropped subscriber of play site changes: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.project.playgrounds.v1.factory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.enums.AdmissionPolicy;
+import org.project.playgrounds.v1.admission.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Creates the admission controller deciding whether kids queue at a full play site.
+ * <p>
+ * The policy is configured park wide with {@code playground.admission.policy}. The default maximum
+ * queue length applies to play sites created without a maximum of their own.
+ */
+@Configuration
+@Slf4j
+public class AdmissionControllerFactory {
+
+    @Bean
+    public AdmissionController admissionController(
+            @Value("${playground.admission.policy:RANDOM}") AdmissionPolicy policy,
+            @Value("${playground.admission.max-queue-length:100}") int defaultMaxQueueLength,
+            @Value("${playground.admission.max-wait:30m}") Duration maxWait) {
+        AdmissionController controller = create(policy, defaultMaxQueueLength, maxWait);
+        log.info("Admission controller {}", controller.policy());
+        return controller;
+    }
+
+    public static AdmissionController create(AdmissionPolicy policy, int defaultMaxQueueLength, Duration maxWait) {
+        return switch (policy) {
+            case ALWAYS_ACCEPT -> new AlwaysAcceptAdmissionController();
+            case BOUNDED_QUEUE -> new BoundedQueueAdmissionController(defaultMaxQueueLength);
+            case EARLY_DROP -> new EarlyDropAdmissionController(defaultMaxQueueLength, maxWait);
+            case RANDOM -> new RandomAdmissionController();
+        };
+    }
+}
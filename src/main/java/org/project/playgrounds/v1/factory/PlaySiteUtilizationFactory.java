@@ -1,45 +1,66 @@
 package org.project.playgrounds.v1.factory;
 
 import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.enums.EquipmentType;
 import org.project.playgrounds.enums.UtilizationType;
 import org.project.playgrounds.v1.dto.Equipment;
 import org.project.playgrounds.v1.strategy.PlaySiteUtilization;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+/**
+ * Resolves the utilization strategy of a play site from its equipments.
+ * <p>
+ * Strategies register themselves by their {@link PlaySiteUtilization#type()}. A play site made of
+ * one kind of equipment uses the strategy registered for that equipment, if any; every other play
+ * site uses the {@link UtilizationType#DEFAULT} strategy. The strategy is resolved once when the
+ * play site is created, not on every utilization request.
+ */
 @Service
 @Slf4j
 public class PlaySiteUtilizationFactory {
-    private final Map<UtilizationType, PlaySiteUtilization> calculatorMap;
+    // Equipment types which have a utilization type of the same name, all others use the default.
+    private static final Map<EquipmentType, UtilizationType> UTILIZATION_TYPES = new EnumMap<>(EquipmentType.class);
 
-    public PlaySiteUtilizationFactory(List<PlaySiteUtilization> calculators) {
-        this.calculatorMap = calculators.stream()
-                .collect(Collectors.toMap(this::getCalculatorType, Function.identity(), (a, b) -> a));
+    static {
+        for (EquipmentType equipmentType : EquipmentType.values()) {
+            UTILIZATION_TYPES.put(equipmentType, UtilizationType.DEFAULT);
+            for (UtilizationType utilizationType : UtilizationType.values()) {
+                if (utilizationType.name().equals(equipmentType.name())) {
+                    UTILIZATION_TYPES.put(equipmentType, utilizationType);
+                }
+            }
+        }
     }
 
-    public PlaySiteUtilization getCalculator(Set<Equipment> equipments) {
+    private final Map<UtilizationType, PlaySiteUtilization> calculatorMap = new EnumMap<>(UtilizationType.class);
+
+    public PlaySiteUtilizationFactory(List<PlaySiteUtilization> calculators) {
+        for (PlaySiteUtilization calculator : calculators) {
+            calculatorMap.putIfAbsent(calculator.type(), calculator);
+        }
+        if (!calculatorMap.containsKey(UtilizationType.DEFAULT)) {
+            throw new IllegalStateException("No default play site utilization registered");
+        }
         log.info("calculators {}", calculatorMap);
-        return equipments.stream()
-                .map((s) -> calculatorMap.get(UtilizationType.valueOf(s.name().name()))
-                )
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(calculatorMap.get(UtilizationType.DEFAULT));
     }
 
-    private UtilizationType getCalculatorType(PlaySiteUtilization calculator) {
-        UtilizationType[] types = UtilizationType.values();
-        for (UtilizationType type : types) {
-            if (calculator.getClass().getSimpleName().startsWith(type.getName())) {
-                return type;
+    public PlaySiteUtilization getCalculator(Set<Equipment> equipments) {
+        UtilizationType type = null;
+        for (Equipment equipment : equipments) {
+            UtilizationType equipmentType = UTILIZATION_TYPES.get(equipment.name());
+            if (type != null && type != equipmentType) {
+                // Mixed equipments, no specific strategy applies.
+                type = UtilizationType.DEFAULT;
+                break;
             }
+            type = equipmentType;
         }
-        return UtilizationType.DEFAULT;
+        return calculatorMap.getOrDefault(type == null ? UtilizationType.DEFAULT : type,
+                calculatorMap.get(UtilizationType.DEFAULT));
     }
 }
@@ -0,0 +1,309 @@
+package org.project.playgrounds.v1.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel running delayed tasks, such as the expiry of play sessions, without a
+ * scheduled task per delay.
+ * <p>
+ * Timeouts are kept in {@value #LEVELS} wheels of {@value #SLOTS} slots. A slot of the first wheel
+ * covers one tick and a slot of every further wheel as many ticks as the whole wheel below it. A
+ * timeout is put in the finest wheel its remaining delay fits in, and whenever a wheel completes a
+ * turn the next slot of the wheel above is spread over the finer wheels. Scheduling, cancelling and
+ * expiring a timeout are therefore constant time whatever the number of pending timeouts, and a
+ * tick only touches the slots falling due. With a tick of one second the wheels span 194 days,
+ * timeouts due later are parked in the coarsest wheel and put back whenever their slot comes up.
+ * <p>
+ * A single thread advances the wheels. Scheduling and cancelling only append to lock-free queues
+ * drained by that thread on its next tick, so they never contend with each other or with expiring
+ * timeouts. Timeouts expire on the first tick at or after their deadline, their tasks run on the
+ * wheel thread and must be short.
+ */
+@Component
+@Slf4j
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Furthest deadline, in ticks from now, the wheels can tell apart.
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickNanos;
+    private final LongSupplier nanoTime;
+    private final long start;
+    private final boolean background;
+    private final Slot[][] wheels = new Slot[LEVELS][SLOTS];
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread worker;
+    // Ticks elapsed since the start, guarded by the monitor of the wheel.
+    private long tick;
+
+    /**
+     * Advances the wheels on a daemon thread started with the first timeout.
+     */
+    @Autowired
+    public TimingWheel(@Value("${playground.sessions.tick:1s}") Duration tick) {
+        this(tick, System::nanoTime, true);
+    }
+
+    /**
+     * Reads the time from the given clock, in nanoseconds. Without a background thread the wheels
+     * only move on calls to {@link #advance()}.
+     */
+    public TimingWheel(Duration tick, LongSupplier nanoTime, boolean background) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive: " + tick);
+        }
+        this.tickNanos = tick.toNanos();
+        this.nanoTime = nanoTime;
+        this.start = nanoTime.getAsLong();
+        this.background = background;
+        for (Slot[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new Slot();
+            }
+        }
+    }
+
+    /**
+     * Runs the task once the delay has elapsed, unless the returned timeout is cancelled first.
+     */
+    public Timeout schedule(Duration delay, Runnable task) {
+        return schedule(delay, timeout -> task.run());
+    }
+
+    /**
+     * Runs the task once the delay has elapsed, unless the returned timeout is cancelled first. The
+     * task is handed its timeout, so it can tell whether it is still the current one of its owner.
+     */
+    public Timeout schedule(Duration delay, Consumer<Timeout> task) {
+        long elapsed = nanoTime.getAsLong() - start;
+        // Rounded up, a timeout never expires early.
+        long deadline = Math.floorDiv(elapsed + Math.max(delay.toNanos(), 0) + tickNanos - 1, tickNanos);
+        Timeout timeout = new Timeout(this, deadline, task);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        if (background && started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, "timing-wheel");
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts neither expired nor cancelled.
+     */
+    public long pending() {
+        return pending.get();
+    }
+
+    /**
+     * Processes every tick elapsed up to now: places the new timeouts, drops the cancelled ones and
+     * runs the tasks falling due.
+     */
+    public synchronized void advance() {
+        long now = (nanoTime.getAsLong() - start) / tickNanos;
+        while (tick < now) {
+            tick++;
+            cascade();
+            placeScheduled();
+            dropCancelled();
+            expire(wheels[0][(int) (tick & SLOT_MASK)]);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                advance();
+            } catch (RuntimeException e) {
+                log.error("Failed to advance the timing wheel.", e);
+            }
+            // Sleep until the next tick begins.
+            long elapsed = nanoTime.getAsLong() - start;
+            LockSupport.parkNanos(this, tickNanos - elapsed % tickNanos);
+        }
+    }
+
+    /**
+     * Spreads the slots of the coarser wheels that come up on this tick over the finer wheels,
+     * coarsest first.
+     */
+    private void cascade() {
+        int level = 1;
+        while (level < LEVELS && (tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        for (level--; level > 0; level--) {
+            Slot slot = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            for (Timeout timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+                if (timeout.state == Timeout.WAITING) {
+                    place(timeout);
+                }
+            }
+        }
+    }
+
+    private void placeScheduled() {
+        for (Timeout timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+            if (timeout.state == Timeout.WAITING) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void dropCancelled() {
+        for (Timeout timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+            if (timeout.slot != null) {
+                timeout.slot.remove(timeout);
+            }
+        }
+    }
+
+    private void expire(Slot slot) {
+        for (Timeout timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+            if (timeout.deadline > tick) {
+                place(timeout);
+            } else if (Timeout.STATE.compareAndSet(timeout, Timeout.WAITING, Timeout.EXPIRED)) {
+                pending.decrementAndGet();
+                try {
+                    timeout.task.accept(timeout);
+                } catch (RuntimeException e) {
+                    log.error("Timeout task failed.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts the timeout in the finest wheel its remaining delay fits in, overdue timeouts in the
+     * slot of the current tick.
+     */
+    private void place(Timeout timeout) {
+        long deadline = Math.min(Math.max(timeout.deadline, tick), tick + SPAN - 1);
+        long remaining = deadline - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final long deadline;
+        private final Consumer<Timeout> task;
+        private volatile int state;
+        // Links of the slot holding the timeout, only touched by the thread advancing the wheel.
+        private Slot slot;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, long deadline, Consumer<Timeout> task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Prevents the task from running, returns {@code false} if it already ran or was cancelled.
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, WAITING, CANCELLED)) {
+                return false;
+            }
+            wheel.pending.decrementAndGet();
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of a slot, so any of them is unlinked in constant time.
+     */
+    private static final class Slot {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.slot = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        Timeout poll() {
+            Timeout timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.slot = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -3,17 +3,39 @@ package org.project.playgrounds.v1.service;
 import org.project.playgrounds.v1.dto.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface IPlaygroundService {
     UUID createPlaySite(PlaySiteRequest  request);
+    List<PlaySiteProvisioningResult> createPlaySites(List<PlaySiteRequest> requests);
+    PlaySiteProvisioningResult provisionPlaySite(int line, PlaySiteRequest request);
+    PlaySiteSummary updateEquipments(UUID playSiteId, Set<EquipmentRequest> equipments);
     Kid addKidToPlaySite(UUID uuid, KidRequest kid);
+    AdmissionResult tryAddKidToPlaySite(UUID playSiteId, KidRequest kid);
     Boolean removeKidFromPlaySite(UUID playSiteUUID, UUID kidId);
+    List<AdmissionResult> addKidsToPlaySite(UUID playSiteId, List<KidRequest> kids);
+    GroupReservation reserveGroup(UUID playSiteId, List<KidRequest> kids);
+    List<Kid> getGroupKids(UUID groupId);
+    Boolean removeGroup(UUID groupId);
     Kid enqueueKid(UUID playSiteId, KidRequest kid);
+    AdmissionResult tryEnqueueKid(UUID playSiteId, KidRequest kid);
     Boolean dequeueKid(UUID playSiteUUID, UUID kidId);
     Double getPlaySiteUtilization(UUID playSiteUUID);
+    List<PlaySiteUtilizationResponse> getPlaySitesUtilization();
     Integer getTotalVisitorCount();
+    VisitorCountResponse getVisitorCounts();
+    OccupancyResponse getOccupancy();
+    Long getTotalOnSite();
+    Long getTotalQueued();
     List<PlaySiteResponse> getPlaySites();
+    PlaySitePage<PlaySiteResponse> getPlaySites(UUID cursor, int limit);
+    Stream<PlaySiteResponse> streamPlaySites(UUID cursor);
+    Long getPlaySiteVersion(UUID uuid);
+    PlaySiteSummary getPlaySiteSummary(UUID uuid);
+    List<PlaySiteSummary> getPlaySiteSummaries();
+    PlaySitePage<PlaySiteSummary> getPlaySiteSummaries(UUID cursor, int limit);
     PlaySite getPlaySite(UUID playSiteUUID);
     List<Kid> getPlaySiteKids(UUID playSiteUUID);
 
@@ -24,4 +46,8 @@ public interface IPlaygroundService {
     EquipmentResponse findEquipmentById(UUID uuid);
 
     Kid getQueueKid(UUID playSiteUUID, UUID kidId);
+
+    Kid getKid(UUID ticketNumber);
+
+    Boolean removeKid(UUID ticketNumber);
 }
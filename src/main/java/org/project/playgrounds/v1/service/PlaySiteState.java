@@ -0,0 +1,387 @@
+package org.project.playgrounds.v1.service;
+
+import org.project.playgrounds.enums.PlaySiteChangeType;
+import org.project.playgrounds.enums.StatusType;
+import org.project.playgrounds.v1.admission.QueueLoad;
+import org.project.playgrounds.v1.analytics.ParkOccupancy;
+import org.project.playgrounds.v1.dto.Equipment;
+import org.project.playgrounds.v1.dto.Kid;
+import org.project.playgrounds.v1.dto.PlaySite;
+import org.project.playgrounds.v1.dto.PlaySiteChange;
+import org.project.playgrounds.v1.dto.PlaySiteSummary;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
+import org.project.playgrounds.v1.strategy.PlaySiteUtilization;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mutable state of a single play site, guarded by its own lock (see {@link #lock()}).
+ * <p>
+ * Invariants, holding whenever the lock is free:
+ * <ul>
+ *     <li>the kids on site and the waiting queue are only read or changed with the lock held, the
+ *     counters, the capacity and the utilization can be read without it;</li>
+ *     <li>the occupied and queued counters equal the sizes of the kids on site and of the queue;</li>
+ *     <li>the kids on site never exceed the capacity, and the queue is empty while seats are free;</li>
+ *     <li>the queue only exceeds the maximum queue length after a reconfiguration moved kids back
+ *     to it, see {@link #isQueueFull(int)};</li>
+ *     <li>every change of the kids increments the version and is reported to the
+ *     {@link ParkOccupancy} and the {@link PlaySiteEventPublisher}.</li>
+ * </ul>
+ */
+class PlaySiteState {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final UUID id;
+    private final String name;
+    private final Integer ageRestriction;
+    private final Integer maxQueueLength;
+    private final Duration maxPlayDuration;
+    private final TicketQueue kidsOnSite;
+    private final TicketQueue kidQueue;
+    private final ParkOccupancy parkOccupancy;
+    private final PlaySiteEventPublisher events;
+
+    // Replaced together under the lock when the play site is reconfigured.
+    private volatile Set<Equipment> equipments;
+    private volatile int capacity;
+    private volatile PlaySiteUtilization utilizationStrategy;
+
+    private volatile int occupied;
+    private volatile int queued;
+    private volatile double utilization;
+    private volatile long version;
+    // Smoothed nanoseconds between two kids leaving the play site, zero until two kids have left.
+    private volatile long departureInterval;
+    private long lastDeparture;
+
+    PlaySiteState(UUID id, String name, Integer ageRestriction, Set<Equipment> equipments, Integer maxQueueLength,
+                  Duration maxPlayDuration, PlaySiteUtilization utilization, ParkOccupancy parkOccupancy, PlaySiteEventPublisher events) {
+        this.id = id;
+        this.name = name;
+        this.ageRestriction = ageRestriction;
+        this.equipments = Collections.unmodifiableSet(equipments);
+        this.capacity = capacityOf(equipments);
+        this.maxQueueLength = maxQueueLength;
+        this.maxPlayDuration = maxPlayDuration;
+        this.kidsOnSite = new TicketQueue(capacity);
+        this.kidQueue = new TicketQueue(maxQueueLength == null ? 0 : (int) Math.min(maxQueueLength, capacity * 4L));
+        this.utilizationStrategy = utilization;
+        this.utilization = utilization.calculateUtilization(0, capacity);
+        this.parkOccupancy = parkOccupancy;
+        this.events = events;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    String name() {
+        return name;
+    }
+
+    Integer ageRestriction() {
+        return ageRestriction;
+    }
+
+    Set<Equipment> equipments() {
+        return equipments;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the maximum queue length of the play site, or {@code null} if it has none of its own.
+     */
+    Integer maxQueueLength() {
+        return maxQueueLength;
+    }
+
+    /**
+     * Returns the time after which a kid has to leave the play site, or {@code null} if unlimited.
+     */
+    Duration maxPlayDuration() {
+        return maxPlayDuration;
+    }
+
+    PlaySiteUtilization utilizationStrategy() {
+        return utilizationStrategy;
+    }
+
+    /**
+     * Returns the utilization maintained on every admission and removal, as a percentage.
+     */
+    double utilization() {
+        return utilization;
+    }
+
+    /**
+     * Returns the version of the play site, incremented on every change of its kids or queue.
+     */
+    long version() {
+        return version;
+    }
+
+    int occupied() {
+        return occupied;
+    }
+
+    int queued() {
+        return queued;
+    }
+
+    boolean isPlaySiteFull() {
+        return occupied >= capacity;
+    }
+
+    /**
+     * Returns the number of kids that can still be admitted to the play site.
+     */
+    int freeSeats() {
+        return Math.max(capacity - occupied, 0);
+    }
+
+    boolean hasWaitingKids() {
+        return queued > 0;
+    }
+
+    /**
+     * Puts the kid on the play site, returns the entry holding it.
+     */
+    TicketQueue.Entry addPlaying(Kid kid) {
+        TicketQueue.Entry entry = kidsOnSite.offer(kid);
+        version++;
+        occupiedChanged();
+        parkOccupancy.onSiteChanged(1);
+        changed(PlaySiteChangeType.ADMITTED);
+        return entry;
+    }
+
+    /**
+     * Appends the kid to the waiting queue, returns the entry holding it.
+     */
+    TicketQueue.Entry addWaiting(Kid kid) {
+        TicketQueue.Entry entry = kidQueue.offer(kid);
+        version++;
+        queued = kidQueue.size();
+        parkOccupancy.queuedChanged(1);
+        changed(PlaySiteChangeType.ENQUEUED);
+        return entry;
+    }
+
+    /**
+     * Removes the kid of the entry from the play site, returns it or {@code null} if not playing.
+     */
+    Kid removePlaying(TicketQueue.Entry entry) {
+        Kid kid = kidsOnSite.remove(entry);
+        if (kid != null) {
+            departed();
+            version++;
+            occupiedChanged();
+            parkOccupancy.onSiteChanged(-1);
+            changed(PlaySiteChangeType.REMOVED);
+        }
+        return kid;
+    }
+
+    /**
+     * Removes the kid of the entry from the waiting queue, returns it or {@code null} if not waiting.
+     */
+    Kid removeWaiting(TicketQueue.Entry entry) {
+        Kid kid = kidQueue.remove(entry);
+        if (kid != null) {
+            version++;
+            queued = kidQueue.size();
+            parkOccupancy.queuedChanged(-1);
+            changed(PlaySiteChangeType.DEQUEUED);
+        }
+        return kid;
+    }
+
+    /**
+     * Moves as many kids from the head of the waiting queue onto the play site as there are free
+     * seats, and returns their new entries, now playing, in queue order. The kids are reported as
+     * one change.
+     */
+    List<TicketQueue.Entry> promoteWaiting() {
+        int seats = Math.min(freeSeats(), kidQueue.size());
+        if (seats == 0) {
+            return List.of();
+        }
+        List<TicketQueue.Entry> promoted = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            Kid waiting = kidQueue.poll();
+            promoted.add(kidsOnSite.offer(new Kid(waiting.name(), waiting.age(), waiting.ticketNumber(), StatusType.PLAYING)));
+        }
+        version++;
+        queued = kidQueue.size();
+        occupiedChanged();
+        parkOccupancy.queuedChanged(-seats);
+        parkOccupancy.onSiteChanged(seats);
+        changed(PlaySiteChangeType.PROMOTED, seats);
+        return promoted;
+    }
+
+    /**
+     * Replaces the equipments of the play site, recalculating its capacity and utilization with the
+     * given strategy. If the kids on site no longer fit, the most recently admitted ones go back to
+     * the head of the waiting queue in their previous order, even beyond the maximum queue length,
+     * and their new entries are returned, now waiting, in that order. Free seats are left to the caller to fill.
+     * Must be called with the lock held.
+     */
+    List<TicketQueue.Entry> reconfigure(Set<Equipment> equipments, PlaySiteUtilization utilizationStrategy) {
+        Set<Equipment> previous = this.equipments;
+        this.equipments = Collections.unmodifiableSet(equipments);
+        this.capacity = capacityOf(equipments);
+        this.utilizationStrategy = utilizationStrategy;
+        parkOccupancy.removeEquipments(previous);
+        parkOccupancy.addEquipments(equipments);
+
+        int overflow = Math.max(kidsOnSite.size() - capacity, 0);
+        TicketQueue.Entry[] demoted = new TicketQueue.Entry[overflow];
+        for (int i = overflow - 1; i >= 0; i--) {
+            Kid playing = kidsOnSite.pollLast();
+            demoted[i] = kidQueue.offerFirst(new Kid(playing.name(), playing.age(), playing.ticketNumber(), StatusType.WAITING));
+        }
+        version++;
+        queued = kidQueue.size();
+        occupiedChanged();
+        parkOccupancy.onSiteChanged(-overflow);
+        parkOccupancy.queuedChanged(overflow);
+        changed(PlaySiteChangeType.DEMOTED, overflow);
+        return List.of(demoted);
+    }
+
+    /**
+     * Returns the load of the waiting queue as seen by kids arriving now. Must be called with the
+     * lock held.
+     */
+    QueueLoad queueLoad(int arriving) {
+        // Every kid leaving the play site lets the head of the queue in, so the last arriving kid
+        // waits for as many departures as there are kids queued before it and itself.
+        Duration estimatedWait = Duration.ofNanos(departureInterval * (queued + arriving));
+        return new QueueLoad(queued, arriving, maxQueueLength, estimatedWait);
+    }
+
+    /**
+     * Returns whether the arriving kids exceed the maximum queue length, readable without the lock.
+     * <p>
+     * Admissions never grow the queue beyond the maximum, but {@link #reconfigure} moves the kids
+     * that no longer fit back to the queue regardless of it, so the queue can be longer than the
+     * maximum. Arriving kids are then turned away until it drained below the maximum again.
+     */
+    boolean isQueueFull(int arriving) {
+        return maxQueueLength != null && queued + arriving > maxQueueLength;
+    }
+
+    /**
+     * Returns the time until the queue has room for the arriving kids at the observed departure
+     * rate, or {@code null} while no kid has left the play site twice.
+     */
+    Duration retryAfter(int arriving) {
+        long interval = departureInterval;
+        if (interval == 0) {
+            return null;
+        }
+        int missing = Math.max(queued + arriving - (maxQueueLength == null ? 0 : maxQueueLength), 1);
+        return Duration.ofNanos(interval * missing);
+    }
+
+    private void departed() {
+        long now = System.nanoTime();
+        if (lastDeparture != 0) {
+            long interval = now - lastDeparture;
+            departureInterval = departureInterval == 0 ? interval : departureInterval + (interval - departureInterval) / 8;
+        }
+        lastDeparture = now;
+    }
+
+    private void changed(PlaySiteChangeType type) {
+        changed(type, 1);
+    }
+
+    private void changed(PlaySiteChangeType type, int kids) {
+        if (events.hasSubscribers()) {
+            events.publish(PlaySiteChange.of(type, kids, id, version, occupied, queued, utilization));
+        }
+    }
+
+    private static int capacityOf(Set<Equipment> equipments) {
+        return equipments.stream().mapToInt(Equipment::capacity)
+                .reduce(0, Integer::sum);
+    }
+
+    private void occupiedChanged() {
+        int current = kidsOnSite.size();
+        occupied = current;
+        utilization = utilizationStrategy.calculateUtilization(current, capacity);
+    }
+
+    /**
+     * Appends the playing kids followed by the waiting kids to the given list.
+     */
+    void collectKids(List<Kid> kids) {
+        kidsOnSite.forEach(kids::add);
+        kidQueue.forEach(kids::add);
+    }
+
+    /**
+     * Returns the headline numbers of the play site from the maintained counters, without the lock
+     * and without touching the kid collections. The counters are read one by one, so a summary
+     * taken during an admission may mix values from just before and just after it.
+     */
+    PlaySiteSummary summary() {
+        int occupied = this.occupied;
+        int capacity = this.capacity;
+        return new PlaySiteSummary(
+                id,
+                version,
+                name,
+                ageRestriction,
+                capacity,
+                occupied,
+                queued,
+                maxQueueLength,
+                utilization,
+                occupied >= capacity
+        );
+    }
+
+    /**
+     * Copies the current state into an immutable {@link PlaySite} view that can be handed out
+     * and serialized without holding the lock. Must be called with the lock held.
+     */
+    PlaySite snapshot() {
+        List<Kid> playing = new ArrayList<>(kidsOnSite.size());
+        kidsOnSite.forEach(playing::add);
+        Queue<Kid> waiting = new ArrayDeque<>(Math.max(kidQueue.size(), 1));
+        kidQueue.forEach(waiting::add);
+        return new PlaySite(
+                id,
+                name,
+                ageRestriction,
+                equipments,
+                playing,
+                waiting,
+                capacity
+        );
+    }
+}
@@ -1,30 +1,78 @@
 package org.project.playgrounds.v1.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.enums.AdmissionStatus;
 import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.enums.RejectionReason;
 import org.project.playgrounds.enums.StatusType;
 import org.project.playgrounds.exceptions.*;
+import org.project.playgrounds.v1.admission.AdmissionController;
+import org.project.playgrounds.v1.analytics.DailyVisitorCounter;
+import org.project.playgrounds.v1.analytics.ParkOccupancy;
 import org.project.playgrounds.v1.dto.*;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
 import org.project.playgrounds.v1.factory.PlaySiteUtilizationFactory;
+import org.project.playgrounds.v1.scheduler.TimingWheel;
 import org.project.playgrounds.v1.strategy.PlaySiteUtilization;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class PlaygroundService implements IPlaygroundService {
-    private final Random random;
-    private int totalVisitorCount = 0;
-    private final Map<UUID, PlaySite> playSites = new HashMap<>();
+    // Equipment responses never change, so they are built once.
+    private static final List<EquipmentResponse> ALL_EQUIPMENT = Arrays.stream(EquipmentType.values())
+            .map(equipmentType -> new EquipmentResponse(equipmentType.getUUID(), equipmentType.getName()))
+            .toList();
+    private static final Map<EquipmentType, EquipmentResponse> EQUIPMENT_BY_TYPE = Arrays.stream(EquipmentType.values())
+            .collect(Collectors.toMap(equipmentType -> equipmentType,
+                    equipmentType -> new EquipmentResponse(equipmentType.getUUID(), equipmentType.name()),
+                    (a, b) -> a,
+                    () -> new EnumMap<>(EquipmentType.class)));
+
+    // Same format as the pattern declared on PlaySiteRequest#name.
+    private static final Pattern PLAY_SITE_NAME = Pattern.compile("^play-site-[0-9]{4}$");
+
+    private final AdmissionController admissionController;
+    private final ConcurrentMap<UUID, PlaySiteState> playSites = new ConcurrentHashMap<>();
+    // Play sites ordered by id, the cursor of the paginated and streamed listings.
+    private final ConcurrentNavigableMap<UUID, PlaySiteState> playSiteIndex = new ConcurrentSkipListMap<>();
+    // Service wide ticket directory, the only ticket index. Updated under the lock of the play site
+    // together with its kids, whose entries it holds.
+    private final ConcurrentMap<UUID, TicketLocation> tickets = new ConcurrentHashMap<>();
+    // Service wide group directory, the tickets of a group are guarded by the lock of its play site.
+    private final ConcurrentMap<UUID, TicketGroup> groups = new ConcurrentHashMap<>();
 
     private final PlaySiteUtilizationFactory siteUtilizationFactory;
-
-    public PlaygroundService(Random random, PlaySiteUtilizationFactory calculatorFactory) {
-        this.random = random;
+    private final DailyVisitorCounter visitorCounter;
+    private final ParkOccupancy parkOccupancy;
+    private final PlaySiteEventPublisher eventPublisher;
+    // Ends the play sessions of play sites with a maximum play duration.
+    private final TimingWheel sessionTimer;
+    // Most kids of one batch or group request, they are all admitted under the play site lock.
+    private final int maxBatchSize;
+
+    public PlaygroundService(AdmissionController admissionController, PlaySiteUtilizationFactory calculatorFactory, DailyVisitorCounter visitorCounter,
+                             ParkOccupancy parkOccupancy, PlaySiteEventPublisher eventPublisher, TimingWheel sessionTimer,
+                             @Value("${playground.admission.max-batch-size:100}") int maxBatchSize) {
+        this.admissionController = admissionController;
         this.siteUtilizationFactory = calculatorFactory;
+        this.visitorCounter = visitorCounter;
+        this.parkOccupancy = parkOccupancy;
+        this.eventPublisher = eventPublisher;
+        this.sessionTimer = sessionTimer;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
@@ -35,34 +83,23 @@ public class PlaygroundService implements IPlaygroundService {
          * @param request The request object.
          * @return The UUID of the new play site.
          */
+        // Reject settings that would break every admission, there is no Bean Validation provider.
+        List<String> errors = new ArrayList<>();
+        validatePlaySiteSettings(request, errors);
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException(String.join(", ", errors));
+        }
+
         // Generate a random UUID.
         UUID uuid = UUID.randomUUID();
 
-        // Create a queue of kids waiting to enter the play site.
-        Queue<Kid> waitingKids = new LinkedList<>();
-
-        // Create a list of kids currently on the play site.
-        List<Kid> kidsOnSite = new ArrayList<>();
+        // Create a new play site, its kids list and waiting queue start empty.
+        PlaySiteState playSite = newPlaySiteState(uuid, request);
 
-        // Create a new play site.
-        PlaySite playSite = new PlaySite(
-                uuid,
-                request.name(),
-                request.ageRestriction(),
-                request.equipments()
-                        .stream()
-                        .map(equipmentRequest -> new Equipment(
-                                equipmentRequest.id(),
-                                EquipmentType.valueOf(findEquipmentById(equipmentRequest.id()).name()),
-                                equipmentRequest.capacity()
-                        ))
-                        .collect(Collectors.toSet()),
-                kidsOnSite,
-                waitingKids
-        );
-
-        // Add the new play site to the map of play sites.
+        // Add the new play site to the map of play sites and its capacity to the park.
         playSites.put(uuid, playSite);
+        playSiteIndex.put(uuid, playSite);
+        parkOccupancy.addEquipments(playSite.equipments());
 
         // Log the creation of the new play site.
         log.info("Created a new play site with ID: {}", uuid);
@@ -72,65 +109,144 @@ public class PlaygroundService implements IPlaygroundService {
     }
 
     @Override
-    public Kid addKidToPlaySite(UUID playSiteId, KidRequest kidRequest) {
-        validatePlaySiteContainsKey(playSiteId);
-        PlaySite playSite = playSites.get(playSiteId);
-
-        if (playSite.equipments().isEmpty()) {
-            // Kid does not accept in play site, empty equipment
-            String message = String.format("KidRequest '%s' does not accept in play site '%s'. No Equipments found.", kidRequest.name(), playSiteId);
-            log.error(message);
-            throw new NoEquipmentFoundException(message);
+    public List<PlaySiteProvisioningResult> createPlaySites(List<PlaySiteRequest> requests) {
+        // Validate every request first, invalid lines are reported and the others still created.
+        List<PlaySiteProvisioningResult> results = new ArrayList<>(requests.size());
+        Map<UUID, PlaySiteState> created = new LinkedHashMap<>();
+        List<Equipment> equipments = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PlaySiteRequest request = requests.get(i);
+            List<String> errors = validatePlaySiteRequest(request);
+            if (!errors.isEmpty()) {
+                results.add(new PlaySiteProvisioningResult(i + 1, null, errors));
+                continue;
+            }
+            UUID uuid = UUID.randomUUID();
+            PlaySiteState playSite = newPlaySiteState(uuid, request);
+            created.put(uuid, playSite);
+            equipments.addAll(playSite.equipments());
+            results.add(new PlaySiteProvisioningResult(i + 1, uuid, null));
         }
 
-        if (playSite.isPlaySiteFull()) {
-            // Kid does not accept in full play site,
-            String message = String.format("KidRequest '%s' does not accept in play site '%s'.", kidRequest.name(), playSiteId);
-            log.error(message);
-            throw new PlaySiteFullException(message);
+        // Register the valid play sites and their capacity in one batch.
+        playSites.putAll(created);
+        playSiteIndex.putAll(created);
+        parkOccupancy.addEquipments(equipments);
+        log.info("Created {} new play sites in bulk, {} requests rejected.", created.size(), requests.size() - created.size());
+
+        return results;
+    }
+
+    @Override
+    public PlaySiteProvisioningResult provisionPlaySite(int line, PlaySiteRequest request) {
+        // Validate the line like a line of a bulk request, an invalid line is reported.
+        List<String> errors = validatePlaySiteRequest(request);
+        if (!errors.isEmpty()) {
+            return new PlaySiteProvisioningResult(line, null, errors);
         }
 
-        if (kidRequest.age() > playSite.ageRestriction()) {
-            // Handle the case when the kidRequest does not meet the age restriction for the play site
-            String message = String.format("Kid '%s' does not meet the age restriction for the play site '%s'", kidRequest.name(), playSiteId);
-            log.error(message);
-            throw new AgeRestrictionException(message);
-        }
-
-        UUID ticketNumberAsUUID = UUID.randomUUID();
-        Kid kid = new Kid(
-                kidRequest.name(),
-                kidRequest.age(),
-                ticketNumberAsUUID,
-                StatusType.PLAYING
-        );
+        // Register the play site and its capacity.
+        UUID uuid = UUID.randomUUID();
+        PlaySiteState playSite = newPlaySiteState(uuid, request);
+        playSites.put(uuid, playSite);
+        playSiteIndex.put(uuid, playSite);
+        parkOccupancy.addEquipments(playSite.equipments());
+        log.debug("Created play site '{}' from line {}.", uuid, line);
 
-        playSite.kidsOnSite().add(kid);
-        totalVisitorCount++;
-        log.info("Added kidRequest '{}' to the play site '{}'.", kidRequest.name(), playSiteId);
+        return new PlaySiteProvisioningResult(line, uuid, null);
+    }
 
-        return kid;
+    @Override
+    public PlaySiteSummary updateEquipments(UUID playSiteId, Set<EquipmentRequest> equipmentRequests) {
+        PlaySiteState playSite = getPlaySiteState(playSiteId);
+        List<String> errors = new ArrayList<>();
+        validateEquipments(equipmentRequests, errors);
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException(String.join(", ", errors));
+        }
+
+        // Resolve the new equipments and utilization strategy before taking the lock.
+        Set<Equipment> equipments = toEquipments(equipmentRequests);
+        PlaySiteUtilization utilization = siteUtilizationFactory.getCalculator(equipments);
+
+        // Swap the equipments in one critical section. Kids that no longer fit go back to the head
+        // of the queue and lose their play session, free seats are taken from the queue.
+        List<TicketQueue.Entry> demoted;
+        playSite.lock();
+        try {
+            demoted = playSite.reconfigure(equipments, utilization);
+            for (TicketQueue.Entry entry : demoted) {
+                TicketLocation location = tickets.get(entry.kid().ticketNumber());
+                if (location.session() != null) {
+                    location.session().cancel();
+                }
+                tickets.put(entry.kid().ticketNumber(), location.waiting(entry));
+            }
+            promoteWaitingKids(playSite);
+        } finally {
+            playSite.unlock();
+        }
+
+        PlaySiteSummary summary = playSite.summary();
+        log.info("Replaced the equipments of play site '{}', capacity is now {}, {} kids moved back to the queue.",
+                playSiteId, summary.capacity(), demoted.size());
+        return summary;
     }
 
     @Override
-    public Boolean removeKidFromPlaySite(UUID playSiteUUID, UUID ticketNumber) {
-        // Validate that the play site exists.
-        validatePlaySiteContainsKey(playSiteUUID);
+    public Kid addKidToPlaySite(UUID playSiteId, KidRequest kidRequest) {
+        AdmissionResult result = tryAddKidToPlaySite(playSiteId, kidRequest);
+        if (result.status() == AdmissionStatus.REJECTED) {
+            throw AdmissionRejectedException.of(result, playSiteId);
+        }
+        return result.kid();
+    }
 
-        // Get the play site.
-        PlaySite playSite = playSites.get(playSiteUUID);
+    @Override
+    public AdmissionResult tryAddKidToPlaySite(UUID playSiteId, KidRequest kidRequest) {
+        PlaySiteState playSite = getPlaySiteState(playSiteId);
+
+        // Rejections are routine, they are answered with a result instead of an exception.
+        AdmissionResult result;
+        playSite.lock();
+        try {
+            if (playSite.equipments().isEmpty()) {
+                result = AdmissionResult.rejected(kidRequest.name(), RejectionReason.NO_EQUIPMENT);
+            } else if (playSite.isPlaySiteFull()) {
+                result = AdmissionResult.rejected(kidRequest.name(), RejectionReason.PLAY_SITE_FULL);
+            } else if (kidRequest.age() > playSite.ageRestriction()) {
+                result = AdmissionResult.rejected(kidRequest.name(), RejectionReason.AGE_RESTRICTION);
+            } else {
+                result = AdmissionResult.admitted(admitPlaying(playSite, kidRequest, null));
+            }
+        } finally {
+            playSite.unlock();
+        }
 
-        // Get the list of kids on the play site.
-        List<Kid> kidsOnSite = playSite.kidsOnSite();
+        if (result.status() == AdmissionStatus.REJECTED) {
+            log.debug("Kid '{}' was not added to the play site '{}': {}.", kidRequest.name(), playSiteId, result.reason());
+        } else {
+            visitorCounter.increment(playSiteId);
+            log.info("Added kidRequest '{}' to the play site '{}'.", kidRequest.name(), playSiteId);
+        }
 
-        // Remove the kid from the list of kids on the play site.
-        boolean isRemoved = kidsOnSite.removeIf(kid -> kid.ticketNumber().equals(ticketNumber));
+        return result;
+    }
 
-        // If the kid was removed and there are still kids waiting to play, move the next kid from the waiting queue to the playing queue.
-        if (isRemoved && kidsOnSite.size() < playSite.capacity() && !playSite.kidQueue().isEmpty()) {
-            Kid kid = playSite.kidQueue().poll();
-            kidsOnSite.add(kid);
-            log.info("Moved kid '{}' from play site waiting state to playing state '{}'.", kid.name(), playSiteUUID);
+    @Override
+    public Boolean removeKidFromPlaySite(UUID playSiteUUID, UUID ticketNumber) {
+        // Validate that the play site exists and get it.
+        PlaySiteState playSite = getPlaySiteState(playSiteUUID);
+
+        boolean isRemoved;
+        playSite.lock();
+        try {
+            isRemoved = removePlayingKid(playSite, locate(playSite, ticketNumber, StatusType.PLAYING));
+            if (isRemoved) {
+                promoteWaitingKids(playSite);
+            }
+        } finally {
+            playSite.unlock();
         }
 
         // Log the removal of the kid.
@@ -141,56 +257,237 @@ public class PlaygroundService implements IPlaygroundService {
         return isRemoved;
     }
 
+    @Override
+    public List<AdmissionResult> addKidsToPlaySite(UUID playSiteId, List<KidRequest> kidRequests) {
+        checkBatchSize(kidRequests);
+        PlaySiteState playSite = getPlaySiteState(playSiteId);
+
+        // The whole group is admitted in one critical section, in request order. Kids that do
+        // not fit on the play site any more are queued if they accept waiting.
+        List<AdmissionResult> results = new ArrayList<>(kidRequests.size());
+        int admitted = 0;
+        int queued = 0;
+        playSite.lock();
+        try {
+            for (KidRequest kidRequest : kidRequests) {
+                if (playSite.equipments().isEmpty()) {
+                    results.add(AdmissionResult.rejected(kidRequest.name(), RejectionReason.NO_EQUIPMENT));
+                } else if (kidRequest.age() > playSite.ageRestriction()) {
+                    results.add(AdmissionResult.rejected(kidRequest.name(), RejectionReason.AGE_RESTRICTION));
+                } else if (!playSite.isPlaySiteFull()) {
+                    results.add(AdmissionResult.admitted(admitPlaying(playSite, kidRequest, null)));
+                    admitted++;
+                } else if (playSite.isQueueFull(1)) {
+                    results.add(AdmissionResult.queueFull(kidRequest.name(), playSite.retryAfter(1)));
+                } else if (acceptsWaiting(playSite, 1)) {
+                    results.add(AdmissionResult.queued(admitWaiting(playSite, kidRequest, null)));
+                    queued++;
+                } else {
+                    results.add(AdmissionResult.rejected(kidRequest.name(), RejectionReason.ENQUEUE_REJECTED));
+                }
+            }
+        } finally {
+            playSite.unlock();
+        }
+        visitorCounter.add(playSiteId, admitted + queued);
+        log.info("Admitted a group of {} kids to the play site '{}': {} playing, {} queued, {} rejected.",
+                kidRequests.size(), playSiteId, admitted, queued, kidRequests.size() - admitted - queued);
+
+        return results;
+    }
+
+    @Override
+    public GroupReservation reserveGroup(UUID playSiteId, List<KidRequest> kidRequests) {
+        checkBatchSize(kidRequests);
+        PlaySiteState playSite = getPlaySiteState(playSiteId);
+        if (kidRequests.isEmpty()) {
+            throw new InvalidRequestException("A group reservation needs at least one kid.");
+        }
+
+        // All checks and all admissions happen in one critical section of the play site, so the
+        // group is either fully admitted or not at all and never races with other admissions.
+        UUID groupId = UUID.randomUUID();
+        StatusType status;
+        List<Kid> kids = new ArrayList<>(kidRequests.size());
+        playSite.lock();
+        try {
+            if (playSite.equipments().isEmpty()) {
+                log.debug("Group '{}' was not admitted to the play site '{}': {}.", groupId, playSiteId, RejectionReason.NO_EQUIPMENT);
+                throw new NoEquipmentFoundException(groupId, playSiteId);
+            }
+
+            for (KidRequest kidRequest : kidRequests) {
+                if (kidRequest.age() > playSite.ageRestriction()) {
+                    log.debug("Group '{}' was not admitted to the play site '{}': {} of kid '{}'.", groupId, playSiteId, RejectionReason.AGE_RESTRICTION, kidRequest.name());
+                    throw new AgeRestrictionException(kidRequest.name(), groupId, playSiteId);
+                }
+            }
+
+            if (kidRequests.size() > playSite.capacity()) {
+                // The group could never play together.
+                log.debug("Group '{}' of {} kids was not admitted to the play site '{}': {}.", groupId, kidRequests.size(), playSiteId, RejectionReason.PLAY_SITE_FULL);
+                throw new PlaySiteFullException(kidRequests.size(), playSiteId, playSite.capacity());
+            }
+
+            Set<UUID> groupTickets = new LinkedHashSet<>();
+            if (kidRequests.size() <= playSite.freeSeats()) {
+                // Enough seats, the whole group plays.
+                status = StatusType.PLAYING;
+                for (KidRequest kidRequest : kidRequests) {
+                    kids.add(admitPlaying(playSite, kidRequest, groupId));
+                }
+            } else if (playSite.isQueueFull(kidRequests.size())) {
+                log.debug("Group '{}' was not admitted to the play site '{}': {}.", groupId, playSiteId, RejectionReason.QUEUE_FULL);
+                throw new QueueFullException(groupId, playSiteId, playSite.retryAfter(kidRequests.size()));
+            } else if (acceptsWaiting(playSite, kidRequests.size())) {
+                // Not enough seats, the whole group waits as one contiguous block of the queue.
+                status = StatusType.WAITING;
+                for (KidRequest kidRequest : kidRequests) {
+                    kids.add(admitWaiting(playSite, kidRequest, groupId));
+                }
+            } else {
+                log.debug("Group '{}' was not admitted to the play site '{}': {}.", groupId, playSiteId, RejectionReason.ENQUEUE_REJECTED);
+                throw new EnqueueRequestRejected(groupId, playSiteId);
+            }
+            kids.forEach(kid -> groupTickets.add(kid.ticketNumber()));
+            groups.put(groupId, new TicketGroup(playSite, groupTickets));
+        } finally {
+            playSite.unlock();
+        }
+        visitorCounter.add(playSiteId, kids.size());
+        log.info("Reserved group '{}' of {} kids in the play site '{}' as {}.", groupId, kids.size(), playSiteId, status);
+
+        return new GroupReservation(groupId, status, kids);
+    }
+
+    @Override
+    public List<Kid> getGroupKids(UUID groupId) {
+        TicketGroup group = groupId == null ? null : groups.get(groupId);
+        List<Kid> kids = new ArrayList<>();
+        if (group != null) {
+            PlaySiteState playSite = group.playSite();
+            playSite.lock();
+            try {
+                for (UUID ticketNumber : group.tickets()) {
+                    kids.add(tickets.get(ticketNumber).kid());
+                }
+            } finally {
+                playSite.unlock();
+            }
+        }
+
+        // If no kid of the group is left, throw NotFoundException
+        if (kids.isEmpty()) {
+            throw new NotFoundException(String.format("Group '{%s}' does not present on any play site", groupId));
+        }
+        return kids;
+    }
+
+    @Override
+    public Boolean removeGroup(UUID groupId) {
+        TicketGroup group = groupId == null ? null : groups.get(groupId);
+        if (group == null) {
+            return false;
+        }
+
+        // Waiting kids leave first, so none of them is promoted just to be removed again.
+        PlaySiteState playSite = group.playSite();
+        int removed = 0;
+        playSite.lock();
+        try {
+            for (UUID ticketNumber : new ArrayList<>(group.tickets())) {
+                if (removeWaitingKid(playSite, locate(playSite, ticketNumber, StatusType.WAITING))) {
+                    removed++;
+                }
+            }
+            int playing = 0;
+            for (UUID ticketNumber : new ArrayList<>(group.tickets())) {
+                if (removePlayingKid(playSite, locate(playSite, ticketNumber, StatusType.PLAYING))) {
+                    playing++;
+                }
+            }
+            removed += playing;
+            // The freed seats are taken in one pass, once the whole group left.
+            if (playing > 0) {
+                promoteWaitingKids(playSite);
+            }
+        } finally {
+            playSite.unlock();
+        }
+
+        log.info("Removed {} kids of group '{}' from play site '{}'.", removed, groupId, playSite.id());
+        return removed > 0;
+    }
+
     @Override
     public Kid enqueueKid(UUID playSiteUUID, KidRequest kidRequest) {
-        // Validate that the play site exists.
-        validatePlaySiteContainsKey(playSiteUUID);
+        AdmissionResult result = tryEnqueueKid(playSiteUUID, kidRequest);
+        if (result.status() == AdmissionStatus.REJECTED) {
+            throw AdmissionRejectedException.of(result, playSiteUUID);
+        }
+        return result.kid();
+    }
 
-        PlaySite playSite = playSites.get(playSiteUUID);
+    @Override
+    public AdmissionResult tryEnqueueKid(UUID playSiteUUID, KidRequest kidRequest) {
+        // Validate that the play site exists and get it.
+        PlaySiteState playSite = getPlaySiteState(playSiteUUID);
 
         // Handle the case when the kid does not meet the age restriction for the play site.
         if (kidRequest.age() > playSite.ageRestriction()) {
-            log.error(String.format("Kid '%s' does not meet the age restriction for the play site '%s'", kidRequest.name(), playSiteUUID));
-            throw new AgeRestrictionException(String.format("Kid '%s' does not meet the age restriction for the play site '%s'", kidRequest.name(), playSiteUUID));
+            log.debug("Kid '{}' was not enqueued in the play site '{}': {}.", kidRequest.name(), playSiteUUID, RejectionReason.AGE_RESTRICTION);
+            return AdmissionResult.rejected(kidRequest.name(), RejectionReason.AGE_RESTRICTION);
         }
 
-        // Handle the case when the kid's enqueue request is rejected.
-        if (random.nextInt(2) == 1) {
-            log.error(String.format("Kid '%s' enqueue rejected for the play site '%s'", kidRequest.name(), playSiteUUID));
-            throw new EnqueueRequestRejected(String.format("Kid '%s' enqueue rejected for the play site '%s'", kidRequest.name(), playSiteUUID));
+        // A full queue is answered without taking the lock.
+        if (playSite.isQueueFull(1)) {
+            return queueFull(playSite, kidRequest);
         }
 
-        // Create a new kid.
-        UUID ticketNumberAsUUID = UUID.randomUUID();
-        Kid kid = new Kid(
-                kidRequest.name(),
-                kidRequest.age(),
-                ticketNumberAsUUID,
-                StatusType.WAITING);
-
-        // Enqueue the kid into the play site.
-        playSite.kidQueue().offer(kid);
+        // Enqueue a new kid into the play site, unless the queue filled up meanwhile or the
+        // admission controller turns it away.
+        Kid kid;
+        Kid playing;
+        playSite.lock();
+        try {
+            if (playSite.isQueueFull(1)) {
+                return queueFull(playSite, kidRequest);
+            }
+            if (!acceptsWaiting(playSite, 1)) {
+                log.debug("Kid '{}' was not enqueued in the play site '{}': {}.", kidRequest.name(), playSiteUUID, RejectionReason.ENQUEUE_REJECTED);
+                return AdmissionResult.rejected(kidRequest.name(), RejectionReason.ENQUEUE_REJECTED);
+            }
+            kid = admitWaiting(playSite, kidRequest, null);
+            // A play site with free seats lets the queue in at once, the kid included.
+            promoteWaitingKids(playSite);
+            TicketLocation location = locate(playSite, kid.ticketNumber(), StatusType.PLAYING);
+            playing = location == null ? null : location.kid();
+        } finally {
+            playSite.unlock();
+        }
 
         // Log the event.
         log.info("Enqueued kid '{}' in the play site '{}'.", kidRequest.name(), playSiteUUID);
 
-        // Increment the total visitor count.
-        totalVisitorCount++;
+        // Increment the visitor count of the day.
+        visitorCounter.increment(playSiteUUID);
 
-        // Return the kid.
-        return kid;
+        return playing == null ? AdmissionResult.queued(kid) : AdmissionResult.admitted(playing);
     }
 
     @Override
     public Boolean dequeueKid(UUID uuid, UUID ticketNumber) {
-        // Validate that the play site exists.
-        validatePlaySiteContainsKey(uuid);
-
-        // Get the play site.
-        PlaySite playSite = playSites.get(uuid);
+        // Validate that the play site exists and get it.
+        PlaySiteState playSite = getPlaySiteState(uuid);
 
         // Remove the kid from the queue.
-        boolean isRemoved = playSite.kidQueue().removeIf(kid -> kid.ticketNumber().equals(ticketNumber));
+        boolean isRemoved;
+        playSite.lock();
+        try {
+            isRemoved = removeWaitingKid(playSite, locate(playSite, ticketNumber, StatusType.WAITING));
+        } finally {
+            playSite.unlock();
+        }
 
         // Log the result.
         if (isRemoved) {
@@ -203,65 +500,139 @@ public class PlaygroundService implements IPlaygroundService {
 
     @Override
     public Double getPlaySiteUtilization(UUID uuid) {
-        validatePlaySiteContainsKey(uuid);
-
-        // Get the play site from the map.
-        PlaySite playSite = playSites.get(uuid);
-
-        // Get the utilization calculator for the play site.
-        PlaySiteUtilization calculator = siteUtilizationFactory.getCalculator(playSite.equipments());
-
-        // Calculate the utilization.
-        double utilization = calculator.calculateUtilization(playSite);
+        // Read the utilization maintained on every admission and removal.
+        double utilization = getPlaySiteState(uuid).utilization();
 
         // Log the utilization.
-        log.info("Play site '{}' utilization: {}%.", uuid, utilization);
+        log.debug("Play site '{}' utilization: {}%.", uuid, utilization);
 
         // Return the utilization.
         return utilization;
 
     }
 
+    @Override
+    public List<PlaySiteUtilizationResponse> getPlaySitesUtilization() {
+        // Read the maintained utilization of every play site, no play site is locked.
+        List<PlaySiteUtilizationResponse> utilizations = new ArrayList<>(playSites.size());
+        for (PlaySiteState playSite : playSites.values()) {
+            utilizations.add(new PlaySiteUtilizationResponse(playSite.id(), playSite.name(), playSite.utilization()));
+        }
+        return utilizations;
+    }
+
     @Override
     public List<PlaySiteResponse> getPlaySites() {
         // Get a list of all play sites.
-        List<PlaySiteResponse> playSiteResponses = playSites.values().stream()
-                .map(playSite -> new PlaySiteResponse(playSite.id(), playSite))
-                .collect(Collectors.toList());
+        List<PlaySiteResponse> playSiteResponses = streamPlaySites(null).collect(Collectors.toList());
 
-        // Log the play sites.
-        log.info("Play sites: {}", playSiteResponses);
+        // Log the number of play sites, the play sites themselves can be huge.
+        log.debug("Listed {} play sites.", playSiteResponses.size());
 
         // Return the play sites.
         return playSiteResponses;
     }
 
+    @Override
+    public PlaySitePage<PlaySiteResponse> getPlaySites(UUID cursor, int limit) {
+        return page(streamPlaySites(cursor), PlaySiteResponse::id, cursor, limit);
+    }
+
+    @Override
+    public Stream<PlaySiteResponse> streamPlaySites(UUID cursor) {
+        // Snapshots are taken lazily one play site at a time while the stream is consumed.
+        return playSitesAfter(cursor).values().stream()
+                .map(playSite -> new PlaySiteResponse(playSite.id(), snapshot(playSite)));
+    }
+
+    @Override
+    public Long getPlaySiteVersion(UUID uuid) {
+        return getPlaySiteState(uuid).version();
+    }
+
+    @Override
+    public PlaySiteSummary getPlaySiteSummary(UUID uuid) {
+        return getPlaySiteState(uuid).summary();
+    }
+
+    @Override
+    public List<PlaySiteSummary> getPlaySiteSummaries() {
+        return streamPlaySiteSummaries(null).collect(Collectors.toList());
+    }
+
+    @Override
+    public PlaySitePage<PlaySiteSummary> getPlaySiteSummaries(UUID cursor, int limit) {
+        return page(streamPlaySiteSummaries(cursor), PlaySiteSummary::id, cursor, limit);
+    }
+
+    private Stream<PlaySiteSummary> streamPlaySiteSummaries(UUID cursor) {
+        return playSitesAfter(cursor).values().stream().map(PlaySiteState::summary);
+    }
+
+    private Map<UUID, PlaySiteState> playSitesAfter(UUID cursor) {
+        return cursor == null ? playSiteIndex : playSiteIndex.tailMap(cursor, false);
+    }
+
+    private static <T> PlaySitePage<T> page(Stream<T> playSites, Function<T, UUID> id, UUID cursor, int limit) {
+        // Read one play site more than requested to know whether there is a next page.
+        int pageSize = Math.max(limit, 1);
+        List<T> items = playSites.limit(pageSize + 1L).collect(Collectors.toCollection(ArrayList::new));
+        UUID nextCursor = null;
+        if (items.size() > pageSize) {
+            items.remove(pageSize);
+            nextCursor = id.apply(items.get(pageSize - 1));
+        }
+        log.debug("Listed {} play sites after cursor '{}'.", items.size(), cursor);
+        return new PlaySitePage<>(items, nextCursor);
+    }
+
     @Override
     public Integer getTotalVisitorCount() {
+        long totalVisitorCount = visitorCounter.total();
         log.info("Total Visitor '{}'", totalVisitorCount);
-        return totalVisitorCount;
+        return (int) Math.min(totalVisitorCount, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public OccupancyResponse getOccupancy() {
+        return parkOccupancy.toResponse();
+    }
+
+    @Override
+    public Long getTotalOnSite() {
+        return parkOccupancy.totalOnSite();
+    }
+
+    @Override
+    public Long getTotalQueued() {
+        return parkOccupancy.totalQueued();
+    }
+
+    @Override
+    public VisitorCountResponse getVisitorCounts() {
+        return new VisitorCountResponse(visitorCounter.today(), visitorCounter.previousDays());
     }
 
     @Override
     public PlaySite getPlaySite(UUID uuid) {
-        validatePlaySiteContainsKey(uuid);
+        PlaySiteState playSite = getPlaySiteState(uuid);
         log.info("Play site by id '{}'", uuid);
-        return playSites.get(uuid);
+        return snapshot(playSite);
     }
 
     @Override
     public List<Kid> getPlaySiteKids(UUID playSiteUUID) {
-        // Validate that the play site UUID is valid.
-        validatePlaySiteContainsKey(playSiteUUID);
-
-        // Get the play site from the map.
-        PlaySite playSite = playSites.get(playSiteUUID);
-
-        // Get the list of kids from the play site.
-        List<Kid> kids = Stream.concat(
-                playSite.kidsOnSite().stream(),
-                playSite.kidQueue().stream()
-        ).collect(Collectors.toList());
+        // Validate that the play site UUID is valid and get it.
+        PlaySiteState playSite = getPlaySiteState(playSiteUUID);
+
+        // Get the list of kids from the play site, playing kids first.
+        List<Kid> kids = new ArrayList<>();
+        playSite.lock();
+        try {
+            playSite.collectKids(kids);
+        } finally {
+            playSite.unlock();
+        }
 
         // Log the list of kids.
         log.info("Play site by id '{}', kids {}", playSiteUUID, kids);
@@ -272,19 +643,23 @@ public class PlaygroundService implements IPlaygroundService {
 
     @Override
     public Kid getPlayingKid(UUID playSiteUUID, UUID ticketNumber) {
-        validatePlaySiteContainsKey(playSiteUUID);
-        PlaySite playSite = playSites.get(playSiteUUID);
+        PlaySiteState playSite = getPlaySiteState(playSiteUUID);
 
         log.info("Looking for Kid By ticket-number '{}', and play site by id '{}'", ticketNumber, playSiteUUID);
 
         // First check into onsite list
-        Optional<Kid> kidInOnSite = playSite.kidsOnSite().stream()
-                .filter(kid -> kid.ticketNumber().equals(ticketNumber))
-                .findFirst();
+        Kid kidInOnSite;
+        playSite.lock();
+        try {
+            TicketLocation location = locate(playSite, ticketNumber, StatusType.PLAYING);
+            kidInOnSite = location == null ? null : location.kid();
+        } finally {
+            playSite.unlock();
+        }
 
         // If kid is present onsite, return kid
-        if (kidInOnSite.isPresent()) {
-            return kidInOnSite.get();
+        if (kidInOnSite != null) {
+            return kidInOnSite;
         }
 
         // If kid is not present in queue, throw NotFoundException
@@ -293,72 +668,372 @@ public class PlaygroundService implements IPlaygroundService {
 
     @Override
     public List<EquipmentResponse> getAllEquipment() {
-        // Get all equipment types.
-        List<EquipmentType> equipmentTypes = Arrays.stream(EquipmentType.values()).toList();
+        // Return the pre-built, immutable list of equipment responses.
+        return ALL_EQUIPMENT;
+    }
 
-        // Create a list of equipment responses.
-        List<EquipmentResponse> equipmentResponses = new ArrayList<>();
-        for (EquipmentType equipmentType : equipmentTypes) {
-            equipmentResponses.add(new EquipmentResponse(
-                    equipmentType.getUUID(),
-                    equipmentType.getName()));
+    @Override
+    public EquipmentResponse findEquipmentById(UUID uuid) {
+        // Return the pre-built response of the equipment type.
+        return EQUIPMENT_BY_TYPE.get(findEquipmentTypeById(uuid));
+    }
+
+    private PlaySiteState newPlaySiteState(UUID uuid, PlaySiteRequest request) {
+        // Resolve the equipments and the utilization strategy once for the play site.
+        Set<Equipment> equipments = toEquipments(request.equipments());
+        PlaySiteUtilization utilization = siteUtilizationFactory.getCalculator(equipments);
+
+        return new PlaySiteState(
+                uuid,
+                request.name(),
+                request.ageRestriction(),
+                equipments,
+                request.maxQueueLength(),
+                request.maxPlayDuration(),
+                utilization,
+                parkOccupancy,
+                eventPublisher
+        );
+    }
+
+    private Set<Equipment> toEquipments(Set<EquipmentRequest> equipmentRequests) {
+        return equipmentRequests
+                .stream()
+                .map(equipmentRequest -> new Equipment(
+                        equipmentRequest.id(),
+                        findEquipmentTypeById(equipmentRequest.id()),
+                        equipmentRequest.capacity()
+                ))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Checks the constraints declared on {@link PlaySiteRequest} and {@link EquipmentRequest} and
+     * that every equipment is known, returns the violations or an empty list if the request is valid.
+     */
+    private List<String> validatePlaySiteRequest(PlaySiteRequest request) {
+        List<String> errors = new ArrayList<>();
+        if (request == null) {
+            errors.add("play site request could not be read");
+            return errors;
         }
+        if (request.name() == null || !PLAY_SITE_NAME.matcher(request.name()).matches()) {
+            errors.add("name: Invalid play site name format");
+        }
+        validatePlaySiteSettings(request, errors);
+        validateEquipments(request.equipments(), errors);
+        return errors;
+    }
 
-        // Return the list of equipment responses.
-        return equipmentResponses;
+    /**
+     * Checks the age restriction and the queue and play time limits of a play site request, adds
+     * the violations to the given list.
+     */
+    private void validatePlaySiteSettings(PlaySiteRequest request, List<String> errors) {
+        if (request == null) {
+            errors.add("play site request could not be read");
+            return;
+        }
+        if (request.ageRestriction() == null) {
+            errors.add("age_restriction: age restriction must not be null");
+        } else if (request.ageRestriction() < 1) {
+            errors.add("age_restriction: must be greater than or equal to 1");
+        }
+        if (request.maxQueueLength() != null && request.maxQueueLength() < 0) {
+            errors.add("max_queue_length: must be greater than or equal to 0");
+        }
+        if (request.maxPlayDuration() != null && (request.maxPlayDuration().isNegative() || request.maxPlayDuration().isZero())) {
+            errors.add("max_play_duration: must be positive");
+        }
     }
 
-    @Override
-    public EquipmentResponse findEquipmentById(UUID uuid) {
-        // Get the list of equipment types.
-        List<EquipmentType> equipmentTypes = Arrays.asList(EquipmentType.values());
+    /**
+     * Checks the constraints declared on {@link EquipmentRequest} and that every equipment is known,
+     * adds the violations to the given list.
+     */
+    private void validateEquipments(Set<EquipmentRequest> equipments, List<String> errors) {
+        if (equipments == null || equipments.isEmpty()) {
+            errors.add("equipments: must not be empty");
+            return;
+        }
+        for (EquipmentRequest equipment : equipments) {
+            if (equipment.id() == null) {
+                errors.add("equipments.id: must not be null");
+            } else if (EquipmentType.fromUUID(equipment.id()) == null) {
+                errors.add(String.format("equipments.id: No Equipment found on given id '%s'", equipment.id()));
+            }
+            if (equipment.capacity() == null) {
+                errors.add("equipments.capacity: capacity must not be null");
+            } else if (equipment.capacity() < 1) {
+                errors.add("equipments.capacity: must be greater than or equal to 1");
+            }
+        }
+    }
 
+    private EquipmentType findEquipmentTypeById(UUID uuid) {
         // Find the equipment type with the given UUID.
-        EquipmentType equipmentType = equipmentTypes.stream()
-                .filter(type -> type.getUUID().equals(uuid))
-                .findFirst()
-                .orElse(null);
+        EquipmentType equipmentType = EquipmentType.fromUUID(uuid);
 
         // If the equipment type is null, throw a NotFoundException.
         if (equipmentType == null) {
             throw new NotFoundException(String.format("No Equipment found on given id '%s'", uuid));
         }
-
-        // Create a new EquipmentResponse object.
-        // Return the EquipmentResponse object.
-        return new EquipmentResponse(
-                equipmentType.getUUID(),
-                equipmentType.name()
-        );
+        return equipmentType;
     }
 
     @Override
     public Kid getQueueKid(UUID playSiteUUID, UUID ticketNumber) {
-        validatePlaySiteContainsKey(playSiteUUID);
-        PlaySite playSite = playSites.get(playSiteUUID);
+        PlaySiteState playSite = getPlaySiteState(playSiteUUID);
 
         // If kid is not present onsite, check into queue
-        Optional<Kid> kidInQueue = playSite.kidQueue().stream()
-                .filter(kid -> kid.ticketNumber().equals(ticketNumber))
-                .findFirst();
+        Kid kidInQueue;
+        playSite.lock();
+        try {
+            TicketLocation location = locate(playSite, ticketNumber, StatusType.WAITING);
+            kidInQueue = location == null ? null : location.kid();
+        } finally {
+            playSite.unlock();
+        }
 
         // If kid is present in queue, return kid
-        if (kidInQueue.isPresent()) {
-            return kidInQueue.get();
+        if (kidInQueue != null) {
+            return kidInQueue;
         }
 
         // If kid is not present in queue, throw NotFoundException
         throw new NotFoundException(String.format("Kid with ticket-number '{%s}' does not present on play site queue '{%s}'", ticketNumber, playSiteUUID));
     }
 
-    private void validatePlaySiteContainsKey(UUID uuid) {
+    @Override
+    public Kid getKid(UUID ticketNumber) {
+        log.info("Looking for Kid By ticket-number '{}'", ticketNumber);
+
+        // Resolve the play site through the ticket directory.
+        TicketLocation location = ticketNumber == null ? null : tickets.get(ticketNumber);
+        Kid kid = null;
+        if (location != null) {
+            PlaySiteState playSite = location.playSite();
+            playSite.lock();
+            try {
+                // The location only changes under the play site lock, so it holds the current kid.
+                location = tickets.get(ticketNumber);
+                if (location != null) {
+                    kid = location.kid();
+                }
+            } finally {
+                playSite.unlock();
+            }
+        }
+
+        // If kid is neither playing nor waiting, throw NotFoundException
+        if (kid == null) {
+            throw new NotFoundException(String.format("Kid with ticket-number '{%s}' does not present on any play site", ticketNumber));
+        }
+        return kid;
+    }
+
+    @Override
+    public Boolean removeKid(UUID ticketNumber) {
+        // Resolve the play site through the ticket directory.
+        TicketLocation location = ticketNumber == null ? null : tickets.get(ticketNumber);
+        if (location == null) {
+            return false;
+        }
+
+        // Remove the kid from wherever it is on the play site.
+        PlaySiteState playSite = location.playSite();
+        boolean isRemoved;
+        playSite.lock();
+        try {
+            // The status only changes under the play site lock, so it tells where the kid is.
+            location = tickets.get(ticketNumber);
+            if (location == null) {
+                isRemoved = false;
+            } else if (location.status() == StatusType.PLAYING) {
+                isRemoved = removePlayingKid(playSite, location);
+                if (isRemoved) {
+                    promoteWaitingKids(playSite);
+                }
+            } else {
+                isRemoved = removeWaitingKid(playSite, location);
+            }
+        } finally {
+            playSite.unlock();
+        }
+
+        // Log the removal of the kid.
+        if (isRemoved) {
+            log.info("Removed kid '{}' from play site '{}'.", ticketNumber, playSite.id());
+        }
+
+        return isRemoved;
+    }
+
+    /**
+     * Puts a new kid on the play site and registers its ticket, optionally as member of a group.
+     * Must be called with the play site lock held, after the admission checks passed.
+     */
+    private Kid admitPlaying(PlaySiteState playSite, KidRequest kidRequest, UUID groupId) {
+        Kid kid = new Kid(kidRequest.name(), kidRequest.age(), UUID.randomUUID(), StatusType.PLAYING);
+        TicketQueue.Entry entry = playSite.addPlaying(kid);
+        tickets.put(kid.ticketNumber(), new TicketLocation(playSite, entry, groupId,
+                startSession(playSite, kid.ticketNumber())));
+        return kid;
+    }
+
+    /**
+     * Appends a new kid to the waiting queue and registers its ticket, optionally as member of a
+     * group. Must be called with the play site lock held.
+     */
+    private Kid admitWaiting(PlaySiteState playSite, KidRequest kidRequest, UUID groupId) {
+        Kid kid = new Kid(kidRequest.name(), kidRequest.age(), UUID.randomUUID(), StatusType.WAITING);
+        TicketQueue.Entry entry = playSite.addWaiting(kid);
+        tickets.put(kid.ticketNumber(), new TicketLocation(playSite, entry, groupId));
+        return kid;
+    }
+
+    /**
+     * Drops a ticket from the ticket directory and from its group, forgetting the group once its
+     * last kid is gone. Must be called with the play site lock held.
+     */
+    private void releaseTicket(UUID ticketNumber) {
+        TicketLocation location = tickets.remove(ticketNumber);
+        if (location != null && location.session() != null) {
+            location.session().cancel();
+        }
+        if (location != null && location.groupId() != null) {
+            TicketGroup group = groups.get(location.groupId());
+            if (group != null && group.tickets().remove(ticketNumber) && group.tickets().isEmpty()) {
+                groups.remove(location.groupId());
+            }
+        }
+    }
+
+    private AdmissionResult queueFull(PlaySiteState playSite, KidRequest kidRequest) {
+        log.debug("Kid '{}' was not enqueued in the play site '{}': {}.", kidRequest.name(), playSite.id(), RejectionReason.QUEUE_FULL);
+        return AdmissionResult.queueFull(kidRequest.name(), playSite.retryAfter(1));
+    }
+
+    /**
+     * Asks the admission controller whether kids that cannot play right now are queued. Must be
+     * called with the play site lock held.
+     */
+    private boolean acceptsWaiting(PlaySiteState playSite, int arriving) {
+        return admissionController.acceptsWaiting(playSite.queueLoad(arriving));
+    }
+
+    /**
+     * Returns the location of the ticket if its kid is on the play site with the status, or
+     * {@code null}. Must be called with the play site lock held.
+     */
+    private TicketLocation locate(PlaySiteState playSite, UUID ticketNumber, StatusType status) {
+        TicketLocation location = ticketNumber == null ? null : tickets.get(ticketNumber);
+        return location != null && location.playSite() == playSite && location.status() == status ? location : null;
+    }
+
+    /**
+     * Removes a playing kid, its seat is taken by the next {@link #promoteWaitingKids} call. Must be
+     * called with the play site lock held.
+     */
+    private boolean removePlayingKid(PlaySiteState playSite, TicketLocation location) {
+        // Remove the kid from the kids on the play site through its entry.
+        if (location == null || playSite.removePlaying(location.entry()) == null) {
+            return false;
+        }
+        releaseTicket(location.kid().ticketNumber());
+        return true;
+    }
+
+    /**
+     * Moves as many waiting kids onto the play site as it has free seats, in queue order, and
+     * starts their play sessions. Must be called with the play site lock held after every change
+     * that frees seats, so the queue never waits while there is room.
+     */
+    private void promoteWaitingKids(PlaySiteState playSite) {
+        List<TicketQueue.Entry> promoted = playSite.promoteWaiting();
+        for (TicketQueue.Entry entry : promoted) {
+            UUID ticketNumber = entry.kid().ticketNumber();
+            TimingWheel.Timeout session = startSession(playSite, ticketNumber);
+            tickets.computeIfPresent(ticketNumber, (ticket, location) -> location.playing(entry, session));
+        }
+        if (!promoted.isEmpty()) {
+            log.info("Moved {} kids from the waiting queue of play site '{}' to playing state.", promoted.size(), playSite.id());
+        }
+    }
+
+    /**
+     * Times the play session of a kid just put on the play site, returns the timeout ending it or
+     * {@code null} if the play site has no maximum play duration.
+     */
+    private TimingWheel.Timeout startSession(PlaySiteState playSite, UUID ticketNumber) {
+        Duration maxPlayDuration = playSite.maxPlayDuration();
+        return maxPlayDuration == null ? null
+                : sessionTimer.schedule(maxPlayDuration, session -> expireSession(playSite, ticketNumber, session));
+    }
+
+    /**
+     * Lets a kid whose play session elapsed leave the play site, the next waiting kids take the
+     * free seat. A kid moved back to the queue and promoted again plays in a new session, so the
+     * kid is only removed while the elapsed session is still its current one, the cancellation of
+     * the old session may have lost the race with its expiry. Runs on the timing wheel thread.
+     */
+    private void expireSession(PlaySiteState playSite, UUID ticketNumber, TimingWheel.Timeout session) {
+        boolean expired = false;
+        playSite.lock();
+        try {
+            TicketLocation location = tickets.get(ticketNumber);
+            if (location != null && location.session() == session) {
+                expired = removePlayingKid(playSite, location);
+            }
+            if (expired) {
+                promoteWaitingKids(playSite);
+            }
+        } finally {
+            playSite.unlock();
+        }
+        if (expired) {
+            log.info("Play session of kid '{}' on play site '{}' expired.", ticketNumber, playSite.id());
+        }
+    }
+
+    /**
+     * Removes a waiting kid from the queue. Must be called with the play site lock held.
+     */
+    private boolean removeWaitingKid(PlaySiteState playSite, TicketLocation location) {
+        if (location == null || playSite.removeWaiting(location.entry()) == null) {
+            return false;
+        }
+        releaseTicket(location.kid().ticketNumber());
+        return true;
+    }
+
+    private PlaySiteState getPlaySiteState(UUID uuid) {
         // Check if the play site with the given UUID exists.
-        if (!playSites.containsKey(uuid)) {
+        PlaySiteState playSite = uuid == null ? null : playSites.get(uuid);
+        if (playSite == null) {
             // Log an error message.
             log.error("The play site with UUID {} does not exist.", uuid);
 
             // Throw a NotFoundException.
             throw new NotFoundException("The play site with UUID " + uuid + " does not exist.");
         }
+        return playSite;
+    }
+
+    private void checkBatchSize(List<KidRequest> kidRequests) {
+        // Checked before the play site lock is taken, a large batch would hold it for its whole length.
+        if (kidRequests.size() > maxBatchSize) {
+            log.debug("Rejected a batch of {} kids, the maximum is {}.", kidRequests.size(), maxBatchSize);
+            throw new BatchTooLargeException(kidRequests.size(), maxBatchSize);
+        }
+    }
+
+    private PlaySite snapshot(PlaySiteState playSite) {
+        playSite.lock();
+        try {
+            return playSite.snapshot();
+        } finally {
+            playSite.unlock();
+        }
     }
 }
@@ -0,0 +1,12 @@
+package org.project.playgrounds.v1.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Entry of the service wide group directory: the play site a group was reserved on and the
+ * tickets of its kids which are still playing or waiting. The ticket set is guarded by the lock of
+ * the play site.
+ */
+record TicketGroup(PlaySiteState playSite, Set<UUID> tickets) {
+}
@@ -0,0 +1,45 @@
+package org.project.playgrounds.v1.service;
+
+import org.project.playgrounds.enums.StatusType;
+import org.project.playgrounds.v1.dto.Kid;
+import org.project.playgrounds.v1.scheduler.TimingWheel;
+
+import java.util.UUID;
+
+/**
+ * Entry of the service wide ticket directory, the only index of the tickets: the play site holding
+ * a ticket, the entry of the kid in the play site's kids on site or waiting queue, the group the kid
+ * was reserved with and the timeout ending the play session of a playing kid, if any. Replaced
+ * under the play site lock whenever the kid moves between the play site and its queue.
+ */
+record TicketLocation(PlaySiteState playSite, TicketQueue.Entry entry, UUID groupId, TimingWheel.Timeout session) {
+
+    TicketLocation(PlaySiteState playSite, TicketQueue.Entry entry, UUID groupId) {
+        this(playSite, entry, groupId, null);
+    }
+
+    Kid kid() {
+        return entry.kid();
+    }
+
+    /**
+     * Returns whether the kid is playing or waiting in the queue.
+     */
+    StatusType status() {
+        return entry.kid().status();
+    }
+
+    /**
+     * Returns the location of the kid once promoted from the queue to the play site.
+     */
+    TicketLocation playing(TicketQueue.Entry entry, TimingWheel.Timeout session) {
+        return new TicketLocation(playSite, entry, groupId, session);
+    }
+
+    /**
+     * Returns the location of the kid once moved back from the play site to the queue.
+     */
+    TicketLocation waiting(TicketQueue.Entry entry) {
+        return new TicketLocation(playSite, entry, groupId, null);
+    }
+}
@@ -0,0 +1,233 @@
+package org.project.playgrounds.v1.service;
+
+import org.project.playgrounds.v1.dto.Kid;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Ordered collection of kids, addressed through the entries handed out when they are added.
+ * <p>
+ * Kids are kept in an array used as a ring buffer of entries and every entry records its own
+ * slot, so removals through an entry (also from the middle of the queue) and insertions and polls
+ * at either end are constant time and iterating walks contiguous memory. The queue has no ticket
+ * index of its own, the entries are kept in the ticket directory of the service. A kid removed
+ * from the middle leaves an empty slot behind, empty slots at either end are dropped right away
+ * and the others once they make up half of the used slots, by compacting the live kids to the
+ * front of the buffer. The buffer doubles when full, so an expected size is only allocated up
+ * front while it is small.
+ * Not thread safe, instances are guarded by the lock of the owning {@link PlaySiteState}.
+ */
+class TicketQueue implements Iterable<Kid> {
+    private static final int MIN_CAPACITY = 8;
+    // Largest buffer allocated up front, larger queues grow as kids arrive.
+    private static final int MAX_INITIAL_CAPACITY = 1 << 10;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Entry[] slots;
+    // Slot of the first kid, and number of slots from there up to the last kid, empty ones included.
+    private int head;
+    private int used;
+    private int size;
+
+    TicketQueue() {
+        this(MIN_CAPACITY);
+    }
+
+    TicketQueue(int expectedSize) {
+        slots = new Entry[capacityFor(Math.min(expectedSize, MAX_INITIAL_CAPACITY))];
+    }
+
+    /**
+     * Appends the kid at the tail, returns the entry holding it.
+     */
+    Entry offer(Kid kid) {
+        if (used == slots.length) {
+            grow();
+        }
+        Entry entry = new Entry(kid, slot(used));
+        slots[entry.slot] = entry;
+        used++;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Inserts the kid at the head, ahead of every kid already present, returns the entry holding it.
+     */
+    Entry offerFirst(Kid kid) {
+        if (used == slots.length) {
+            grow();
+        }
+        head = (head - 1) & (slots.length - 1);
+        Entry entry = new Entry(kid, head);
+        slots[head] = entry;
+        used++;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes and returns the head, or {@code null} if empty.
+     */
+    Kid poll() {
+        if (used == 0) {
+            return null;
+        }
+        Entry entry = slots[head];
+        slots[head] = null;
+        entry.slot = -1;
+        head = slot(1);
+        used--;
+        size--;
+        trim();
+        return entry.kid;
+    }
+
+    /**
+     * Removes and returns the tail, or {@code null} if empty.
+     */
+    Kid pollLast() {
+        if (used == 0) {
+            return null;
+        }
+        int slot = slot(used - 1);
+        Entry entry = slots[slot];
+        slots[slot] = null;
+        entry.slot = -1;
+        used--;
+        size--;
+        trim();
+        return entry.kid;
+    }
+
+    /**
+     * Removes the kid of the entry wherever it is, returns it or {@code null} if the entry is not
+     * in this queue any more.
+     */
+    Kid remove(Entry entry) {
+        if (entry.slot < 0 || entry.slot >= slots.length || slots[entry.slot] != entry) {
+            return null;
+        }
+        slots[entry.slot] = null;
+        entry.slot = -1;
+        size--;
+        trim();
+        if (used > MIN_CAPACITY && size * 2 < used) {
+            resize(slots.length);
+        }
+        return entry.kid;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Kid> iterator() {
+        return new Iterator<>() {
+            private int position = skipEmpty(0);
+
+            @Override
+            public boolean hasNext() {
+                return position < used;
+            }
+
+            @Override
+            public Kid next() {
+                if (position >= used) {
+                    throw new NoSuchElementException();
+                }
+                Kid kid = slots[slot(position)].kid;
+                position = skipEmpty(position + 1);
+                return kid;
+            }
+        };
+    }
+
+    private int skipEmpty(int position) {
+        while (position < used && slots[slot(position)] == null) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Drops the empty slots at the head and at the tail, so both ends always hold a kid.
+     */
+    private void trim() {
+        while (used > 0 && slots[head] == null) {
+            head = slot(1);
+            used--;
+        }
+        while (used > 0 && slots[slot(used - 1)] == null) {
+            used--;
+        }
+        if (used == 0) {
+            head = 0;
+        }
+    }
+
+    /**
+     * Makes room for one more kid at either end of a buffer whose slots are all used.
+     */
+    private void grow() {
+        // Compacting alone frees enough room if at least half of the slots are empty.
+        if (size * 2 <= slots.length) {
+            resize(slots.length);
+        } else if (slots.length < MAX_CAPACITY) {
+            resize(slots.length * 2);
+        } else {
+            throw new IllegalStateException("Ticket queue cannot hold more than " + MAX_CAPACITY + " kids");
+        }
+    }
+
+    /**
+     * Moves the kids, in order and without empty slots, to the front of a buffer of the capacity.
+     */
+    private void resize(int capacity) {
+        Entry[] resized = new Entry[capacity];
+        int count = 0;
+        for (int position = 0; position < used; position++) {
+            Entry entry = slots[slot(position)];
+            if (entry != null) {
+                entry.slot = count;
+                resized[count] = entry;
+                count++;
+            }
+        }
+        slots = resized;
+        head = 0;
+        used = count;
+    }
+
+    private int slot(int position) {
+        return (head + position) & (slots.length - 1);
+    }
+
+    /**
+     * A kid in the queue and the slot it currently occupies, updated whenever the kids are moved
+     * and negative once the kid left the queue.
+     */
+    static final class Entry {
+        private final Kid kid;
+        private int slot;
+
+        private Entry(Kid kid, int slot) {
+            this.kid = kid;
+            this.slot = slot;
+        }
+
+        Kid kid() {
+            return kid;
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -1,7 +1,7 @@
 package org.project.playgrounds.v1.strategy;
 
 import lombok.extern.slf4j.Slf4j;
-import org.project.playgrounds.v1.dto.PlaySite;
+import org.project.playgrounds.enums.UtilizationType;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -9,8 +9,14 @@ import org.springframework.stereotype.Service;
 public class DefaultPlaySiteUtilization implements PlaySiteUtilization {
 
     @Override
-    public Double calculateUtilization(PlaySite playSite) {
-        log.info(String.format("Default PlaySiteUtilization calculation called for %s", playSite.id()));
-        return (double) playSite.occupiedCapacity() / playSite.capacity() * 100.0;
+    public double calculateUtilization(int occupied, int capacity) {
+        log.debug("Default PlaySiteUtilization calculation called for {}/{}", occupied, capacity);
+        // A play site without capacity is never utilized.
+        return capacity == 0 ? 0.0 : (double) occupied / capacity * 100.0;
+    }
+
+    @Override
+    public UtilizationType type() {
+        return UtilizationType.DEFAULT;
     }
 }
@@ -2,7 +2,7 @@ package org.project.playgrounds.v1.strategy;
 
 
 import lombok.extern.slf4j.Slf4j;
-import org.project.playgrounds.v1.dto.PlaySite;
+import org.project.playgrounds.enums.UtilizationType;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -10,8 +10,13 @@ import org.springframework.stereotype.Service;
 public class DoubleSwingsPlaySiteUtilization implements PlaySiteUtilization {
 
     @Override
-    public Double calculateUtilization(PlaySite playSite) {
-        log.info(String.format("Double Swing PlaySiteUtilization calculation called for %s", playSite.id()));
-        return playSite.isPlaySiteFull() ? 100.0 : 0.0;
+    public double calculateUtilization(int occupied, int capacity) {
+        log.debug("Double Swing PlaySiteUtilization calculation called for {}/{}", occupied, capacity);
+        return occupied >= capacity ? 100.0 : 0.0;
+    }
+
+    @Override
+    public UtilizationType type() {
+        return UtilizationType.DOUBLE_SWINGS;
     }
 }
@@ -1,7 +1,23 @@
 package org.project.playgrounds.v1.strategy;
 
+import org.project.playgrounds.enums.UtilizationType;
 import org.project.playgrounds.v1.dto.PlaySite;
 
 public interface PlaySiteUtilization {
-  Double calculateUtilization(PlaySite playSite);
+  default Double calculateUtilization(PlaySite playSite) {
+    return calculateUtilization(playSite.occupiedCapacity(), playSite.capacity());
+  }
+
+  /**
+   * Calculates the utilization from the play site counters only, so it can be kept up to date on
+   * every admission and removal without copying the kid collections.
+   *
+   * @return The utilization, as a percentage.
+   */
+  double calculateUtilization(int occupied, int capacity);
+
+  /**
+   * The utilization type this strategy is registered for in the factory.
+   */
+  UtilizationType type();
 }
@@ -0,0 +1,47 @@
+package org.project.playgrounds.v2.handlers;
+
+import lombok.AllArgsConstructor;
+import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.UUID;
+
+import static org.springframework.web.servlet.function.ServerResponse.ok;
+
+@Component
+@AllArgsConstructor
+public class AnalyticHandler {
+    private final IPlaygroundService playgroundService;
+    private final AsyncResponses responses;
+
+    public ServerResponse getPlaySiteUtilization(ServerRequest req) {
+        UUID playSiteId = UUID.fromString(req.pathVariable("play-site-id"));
+        return responses.async(() -> ok().body(playgroundService.getPlaySiteUtilization(playSiteId)));
+    }
+
+    public ServerResponse getPlaySitesUtilization(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getPlaySitesUtilization()));
+    }
+
+    public ServerResponse getTotalVisitorCount(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getTotalVisitorCount()));
+    }
+
+    public ServerResponse getVisitorCounts(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getVisitorCounts()));
+    }
+
+    public ServerResponse getOccupancy(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getOccupancy()));
+    }
+
+    public ServerResponse getTotalOnSite(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getTotalOnSite()));
+    }
+
+    public ServerResponse getTotalQueued(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getTotalQueued()));
+    }
+}
@@ -0,0 +1,91 @@
+package org.project.playgrounds.v2.handlers;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.exceptions.GlobalExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the work of the v2 handlers on a pool of their own, so the servlet thread is released as
+ * soon as the request is read. Failures are answered like the v1 controllers answer them through
+ * the {@link GlobalExceptionHandler}.
+ * <p>
+ * The pool has a fixed number of threads and a bounded queue, a request arriving while the queue
+ * is full is answered with 503 and a Retry-After header instead of piling up. The request body is
+ * still read and parsed on the servlet thread before the work is handed over, the functional
+ * endpoints only read bodies blocking, so a slow upload keeps its container thread until it arrived.
+ */
+@Component
+@Slf4j
+public class AsyncResponses {
+    private final ExecutorService executor;
+    private final GlobalExceptionHandler exceptionHandler;
+
+    public AsyncResponses(@Value("${playground.v2.threads:16}") int threads,
+                          @Value("${playground.v2.queue-capacity:1000}") int queueCapacity,
+                          GlobalExceptionHandler exceptionHandler) {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "v2-handler-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    public ServerResponse async(Callable<ServerResponse> handler) {
+        CompletableFuture<ServerResponse> response;
+        try {
+            response = CompletableFuture
+                    .supplyAsync(() -> {
+                        try {
+                            return handler.call();
+                        } catch (Exception e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor)
+                    .exceptionally(this::errorResponse);
+        } catch (RejectedExecutionException e) {
+            log.debug("Rejected a v2 request, the handler queue is full.");
+            return busyResponse();
+        }
+        return ServerResponse.async(response);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ServerResponse errorResponse(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        ResponseEntity<Object> error = exceptionHandler.handleException(cause);
+        return ServerResponse.status(error.getStatusCode())
+                .headers(headers -> headers.addAll(error.getHeaders()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error.getBody());
+    }
+
+    private static ServerResponse busyResponse() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "Too many requests in progress. Please try again later.");
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE);
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
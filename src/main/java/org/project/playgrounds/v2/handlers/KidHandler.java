@@ -0,0 +1,131 @@
+package org.project.playgrounds.v2.handlers;
+
+import jakarta.servlet.ServletException;
+import lombok.AllArgsConstructor;
+import org.project.playgrounds.enums.StatusType;
+import org.project.playgrounds.v1.dto.GroupReservation;
+import org.project.playgrounds.v1.dto.Kid;
+import org.project.playgrounds.v1.dto.KidRequest;
+import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.web.servlet.function.ServerResponse.created;
+import static org.springframework.web.servlet.function.ServerResponse.ok;
+
+@Component
+@AllArgsConstructor
+public class KidHandler {
+    private static final ParameterizedTypeReference<List<KidRequest>> KID_REQUESTS = new ParameterizedTypeReference<>() {
+    };
+
+    private final IPlaygroundService playgroundService;
+    private final AsyncResponses responses;
+
+    public ServerResponse addKidToPlaySite(ServerRequest req) throws ServletException, IOException {
+        UUID playSiteId = playSiteId(req);
+        KidRequest body = req.body(KidRequest.class);
+        URI uri = req.uri();
+        return responses.async(() -> {
+            Kid kid = playgroundService.addKidToPlaySite(playSiteId, body);
+            URI location = UriComponentsBuilder.fromUri(uri).path("/playing/{kid-id}").build(kid.ticketNumber());
+            return created(location).body(kid.ticketNumber().toString());
+        });
+    }
+
+    public ServerResponse addKidsToPlaySite(ServerRequest req) throws ServletException, IOException {
+        UUID playSiteId = playSiteId(req);
+        List<KidRequest> body = req.body(KID_REQUESTS);
+        return responses.async(() -> ok().body(playgroundService.addKidsToPlaySite(playSiteId, body)));
+    }
+
+    public ServerResponse reserveGroup(ServerRequest req) throws ServletException, IOException {
+        UUID playSiteId = playSiteId(req);
+        List<KidRequest> body = req.body(KID_REQUESTS);
+        URI uri = req.uri();
+        return responses.async(() -> {
+            GroupReservation reservation = playgroundService.reserveGroup(playSiteId, body);
+            URI location = UriComponentsBuilder.fromUri(uri).replacePath("/api/v2/kids/groups/{group-id}").build(reservation.groupId());
+            return created(location).body(reservation);
+        });
+    }
+
+    public ServerResponse removeKidFromPlaySite(ServerRequest req) {
+        UUID playSiteId = playSiteId(req);
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.removeKidFromPlaySite(playSiteId, ticketNumber)));
+    }
+
+    public ServerResponse enqueueKid(ServerRequest req) throws ServletException, IOException {
+        UUID playSiteId = playSiteId(req);
+        KidRequest body = req.body(KidRequest.class);
+        URI uri = req.uri();
+        return responses.async(() -> {
+            Kid kid = playgroundService.enqueueKid(playSiteId, body);
+            String collection = kid.status() == StatusType.PLAYING ? "playing" : "queue";
+            URI location = UriComponentsBuilder.fromUri(uri)
+                    .replacePath("/api/v2/kids/play-site/{play-site-id}/{collection}/{ticket-number}")
+                    .build(playSiteId, collection, kid.ticketNumber());
+            return created(location).body(kid.ticketNumber().toString());
+        });
+    }
+
+    public ServerResponse dequeueKid(ServerRequest req) {
+        UUID playSiteId = playSiteId(req);
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.dequeueKid(playSiteId, ticketNumber)));
+    }
+
+    public ServerResponse getQueueKid(ServerRequest req) {
+        UUID playSiteId = playSiteId(req);
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.getQueueKid(playSiteId, ticketNumber)));
+    }
+
+    public ServerResponse getPlayingKid(ServerRequest req) {
+        UUID playSiteId = playSiteId(req);
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.getPlayingKid(playSiteId, ticketNumber)));
+    }
+
+    public ServerResponse playSiteKids(ServerRequest req) {
+        UUID playSiteId = playSiteId(req);
+        return responses.async(() -> ok().body(playgroundService.getPlaySiteKids(playSiteId)));
+    }
+
+    public ServerResponse getKid(ServerRequest req) {
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.getKid(ticketNumber)));
+    }
+
+    public ServerResponse removeKid(ServerRequest req) {
+        UUID ticketNumber = ticketNumber(req);
+        return responses.async(() -> ok().body(playgroundService.removeKid(ticketNumber)));
+    }
+
+    public ServerResponse getGroupKids(ServerRequest req) {
+        UUID groupId = UUID.fromString(req.pathVariable("group-id"));
+        return responses.async(() -> ok().body(playgroundService.getGroupKids(groupId)));
+    }
+
+    public ServerResponse removeGroup(ServerRequest req) {
+        UUID groupId = UUID.fromString(req.pathVariable("group-id"));
+        return responses.async(() -> ok().body(playgroundService.removeGroup(groupId)));
+    }
+
+    private static UUID playSiteId(ServerRequest req) {
+        return UUID.fromString(req.pathVariable("play-site-id"));
+    }
+
+    private static UUID ticketNumber(ServerRequest req) {
+        return UUID.fromString(req.pathVariable("ticket-number"));
+    }
+}
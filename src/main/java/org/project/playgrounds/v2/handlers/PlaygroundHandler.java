@@ -1,13 +1,25 @@
 package org.project.playgrounds.v2.handlers;
 
+import jakarta.servlet.ServletException;
 import lombok.AllArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.project.playgrounds.v1.dto.EquipmentRequest;
+import org.project.playgrounds.v1.dto.PlaySitePage;
 import org.project.playgrounds.v1.dto.PlaySiteRequest;
 import org.project.playgrounds.v1.service.IPlaygroundService;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.springframework.web.servlet.function.ServerResponse.ok;
 
@@ -15,14 +27,76 @@ import static org.springframework.web.servlet.function.ServerResponse.ok;
 @AllArgsConstructor
 @Slf4j
 public class PlaygroundHandler {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final IPlaygroundService playgroundService;
-    @SneakyThrows
-    public ServerResponse createPlaySite(ServerRequest req) {
+    private final AsyncResponses responses;
+
+    public ServerResponse createPlaySite(ServerRequest req) throws ServletException, IOException {
 
         var body = req.body(PlaySiteRequest.class);
         log.info(String.format("Inside create method, Request received with body %s", body));
 
-        playgroundService.createPlaySite(body);
-        return ok().build();
+        return responses.async(() -> ok().body(playgroundService.createPlaySite(body).toString()));
+    }
+
+    public ServerResponse createPlaySites(ServerRequest req) throws ServletException, IOException {
+        List<PlaySiteRequest> body = req.body(new ParameterizedTypeReference<>() {
+        });
+        return responses.async(() -> ok().body(playgroundService.createPlaySites(body)));
+    }
+
+    public ServerResponse updateEquipments(ServerRequest req) throws ServletException, IOException {
+        UUID id = UUID.fromString(req.pathVariable("id"));
+        Set<EquipmentRequest> body = req.body(new ParameterizedTypeReference<>() {
+        });
+        return responses.async(() -> ok().body(playgroundService.updateEquipments(id, body)));
+    }
+
+    public ServerResponse getEquipmentList(ServerRequest req) {
+        return responses.async(() -> ok().body(playgroundService.getAllEquipment()));
+    }
+
+    public ServerResponse getPlaySites(ServerRequest req) {
+        Optional<UUID> cursor = req.param("cursor").map(UUID::fromString);
+        Optional<Integer> limit = req.param("limit").map(Integer::valueOf);
+        URI uri = req.uri();
+        return responses.async(() -> {
+            if (cursor.isEmpty() && limit.isEmpty()) {
+                return ok().body(playgroundService.getPlaySites());
+            }
+            return page(uri, playgroundService.getPlaySites(cursor.orElse(null), limit.orElse(DEFAULT_PAGE_SIZE)));
+        });
+    }
+
+    public ServerResponse getPlaySiteSummaries(ServerRequest req) {
+        Optional<UUID> cursor = req.param("cursor").map(UUID::fromString);
+        Optional<Integer> limit = req.param("limit").map(Integer::valueOf);
+        URI uri = req.uri();
+        return responses.async(() -> {
+            if (cursor.isEmpty() && limit.isEmpty()) {
+                return ok().body(playgroundService.getPlaySiteSummaries());
+            }
+            return page(uri, playgroundService.getPlaySiteSummaries(cursor.orElse(null), limit.orElse(DEFAULT_PAGE_SIZE)));
+        });
+    }
+
+    public ServerResponse getPlaySite(ServerRequest req) {
+        UUID id = UUID.fromString(req.pathVariable("id"));
+        return responses.async(() -> ok().body(playgroundService.getPlaySite(id)));
+    }
+
+    public ServerResponse getPlaySiteSummary(ServerRequest req) {
+        UUID id = UUID.fromString(req.pathVariable("id"));
+        return responses.async(() -> ok().body(playgroundService.getPlaySiteSummary(id)));
+    }
+
+    private static ServerResponse page(URI uri, PlaySitePage<?> page) {
+        ServerResponse.BodyBuilder response = ok();
+        if (page.nextCursor() != null) {
+            URI next = UriComponentsBuilder.fromUri(uri).replaceQueryParam("cursor", page.nextCursor()).build().toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.playSites());
     }
 }
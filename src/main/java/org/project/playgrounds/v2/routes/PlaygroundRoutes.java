@@ -1,5 +1,7 @@
 package org.project.playgrounds.v2.routes;
 
+import org.project.playgrounds.v2.handlers.AnalyticHandler;
+import org.project.playgrounds.v2.handlers.KidHandler;
 import org.project.playgrounds.v2.handlers.PlaygroundHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
@@ -12,10 +14,53 @@ import static org.springframework.web.servlet.function.RouterFunctions.route;
 @Component
 public class PlaygroundRoutes {
 
-    // Functional endpoint - We can also use function routers to build..
+    // Functional endpoints mirroring the v1 controllers, every handler completes asynchronously.
     @Bean
     public RouterFunction<ServerResponse> userPreferenceRoutes(PlaygroundHandler playgroundHandler) {
-        return route(POST("/api/v2/play-sites"), playgroundHandler::createPlaySite);
+        return route()
+                .path("/api/v2/play-sites", builder -> builder
+                        .POST("", playgroundHandler::createPlaySite)
+                        .POST("/bulk", playgroundHandler::createPlaySites)
+                        .GET("/equipments/list", playgroundHandler::getEquipmentList)
+                        .GET("/list", playgroundHandler::getPlaySites)
+                        .GET("/summaries", playgroundHandler::getPlaySiteSummaries)
+                        .GET("/{id}", playgroundHandler::getPlaySite)
+                        .GET("/{id}/summary", playgroundHandler::getPlaySiteSummary)
+                        .PUT("/{id}/equipments", playgroundHandler::updateEquipments))
+                .build();
     }
 
+    @Bean
+    public RouterFunction<ServerResponse> kidRoutes(KidHandler kidHandler) {
+        return route()
+                .path("/api/v2/kids", builder -> builder
+                        .POST("/play-site/{play-site-id}", kidHandler::addKidToPlaySite)
+                        .POST("/play-site/{play-site-id}/batch", kidHandler::addKidsToPlaySite)
+                        .POST("/play-site/{play-site-id}/group", kidHandler::reserveGroup)
+                        .POST("/play-site/{play-site-id}/queue", kidHandler::enqueueKid)
+                        .GET("/play-site/{play-site-id}", kidHandler::playSiteKids)
+                        .GET("/play-site/{play-site-id}/playing/{ticket-number}", kidHandler::getPlayingKid)
+                        .DELETE("/play-site/{play-site-id}/playing/{ticket-number}", kidHandler::removeKidFromPlaySite)
+                        .GET("/play-site/{play-site-id}/queue/{ticket-number}", kidHandler::getQueueKid)
+                        .DELETE("/play-site/{play-site-id}/queue/{ticket-number}", kidHandler::dequeueKid)
+                        .GET("/groups/{group-id}", kidHandler::getGroupKids)
+                        .DELETE("/groups/{group-id}", kidHandler::removeGroup)
+                        .GET("/{ticket-number}", kidHandler::getKid)
+                        .DELETE("/{ticket-number}", kidHandler::removeKid))
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> analyticRoutes(AnalyticHandler analyticHandler) {
+        return route()
+                .path("/api/v2/analytics", builder -> builder
+                        .GET("/play-site/{play-site-id}/utilization", analyticHandler::getPlaySiteUtilization)
+                        .GET("/utilization", analyticHandler::getPlaySitesUtilization)
+                        .GET("/total-visitor-count", analyticHandler::getTotalVisitorCount)
+                        .GET("/visitor-count", analyticHandler::getVisitorCounts)
+                        .GET("/occupancy", analyticHandler::getOccupancy)
+                        .GET("/total-on-site", analyticHandler::getTotalOnSite)
+                        .GET("/total-queued", analyticHandler::getTotalQueued))
+                .build();
+    }
 }
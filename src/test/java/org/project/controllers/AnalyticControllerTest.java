@@ -117,4 +117,37 @@ public class AnalyticControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(2));
     }
+
+    @Test
+    void testGetVisitorCounts() throws Exception {
+        // Make a request to the controller
+        mockMvc.perform(get("/api/v1/analytics/visitor-count"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.today.date").isNotEmpty())
+                .andExpect(jsonPath("$.today.total").isNumber())
+                .andExpect(jsonPath("$.today.play_sites").isMap())
+                .andExpect(jsonPath("$.previous_days").isArray());
+    }
+
+    @Test
+    void testGetPlaySitesUtilization() throws Exception {
+        // Make a request to the controller
+        mockMvc.perform(get("/api/v1/analytics/utilization"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    void testGetOccupancy() throws Exception {
+        // Make a request to the controller
+        mockMvc.perform(get("/api/v1/analytics/occupancy"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total_on_site").isNumber())
+                .andExpect(jsonPath("$.total_queued").isNumber())
+                .andExpect(jsonPath("$.free_capacity").isNumber())
+                .andExpect(jsonPath("$.capacity_by_equipment.DOUBLE_SWINGS").isNumber());
+    }
 }
@@ -0,0 +1,39 @@
+package org.project.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.exceptions.GlobalExceptionHandler;
+import org.project.playgrounds.v2.handlers.AsyncResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncResponsesTest {
+
+    @Test
+    void testFullQueue_AnsweredWithServiceUnavailable() throws Exception {
+        // One handler thread and no queue.
+        AsyncResponses responses = new AsyncResponses(1, 0, new GlobalExceptionHandler());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            responses.async(() -> {
+                started.countDown();
+                release.await();
+                return ServerResponse.ok().build();
+            });
+            started.await();
+
+            // The only thread is busy, so the next request is turned away at once.
+            ServerResponse rejected = responses.async(() -> ServerResponse.ok().build());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.statusCode());
+            assertEquals("1", rejected.headers().getFirst(HttpHeaders.RETRY_AFTER));
+        } finally {
+            release.countDown();
+            responses.shutdown();
+        }
+    }
+}
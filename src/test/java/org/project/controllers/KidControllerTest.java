@@ -14,8 +14,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
@@ -95,7 +99,8 @@ public class KidControllerTest {
         mockMvc.perform(post("/api/v1/kids/play-site/{id}", uuid)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(kidRequest)))
-                .andExpect(status().isInternalServerError());
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason", is("PLAY_SITE_FULL")));
 
     }
 
@@ -144,6 +149,226 @@ public class KidControllerTest {
                 .andExpect(jsonPath("$").value(true));
     }
 
+    @Test
+    void testGetAndRemoveKidByTicketNumber() throws Exception {
+
+        // Create a PlaySiteRequest object.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0004", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.DOUBLE_SWINGS.getUUID(), 1
+                ))
+        );
+
+        // Perform the POST request.
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        String playSiteUUID = mvcResult.getResponse().getContentAsString();
+
+        // Perform the POST request.
+        MvcResult mvcKidResult = mockMvc.perform(post("/api/v1/kids/play-site/{id}", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KidRequest("Kid1", 5))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String ticketNumber = mvcKidResult.getResponse().getContentAsString();
+
+        // Resolve the kid by ticket number only.
+        mockMvc.perform(get("/api/v1/kids/{ticket-number}", ticketNumber))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Kid1")))
+                .andExpect(jsonPath("$.ticket_number", is(ticketNumber)))
+                .andExpect(jsonPath("$.status", is("PLAYING")));
+
+        // Remove the kid by ticket number only.
+        mockMvc.perform(delete("/api/v1/kids/{ticket-number}", ticketNumber))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(true));
+
+        mockMvc.perform(get("/api/v1/kids/{ticket-number}", ticketNumber))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testAddKidsToPlaySiteInBatch() throws Exception {
+
+        // Create a PlaySiteRequest object with a capacity of 2.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0005", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        );
+
+        // Perform the POST request.
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String playSiteUUID = mvcResult.getResponse().getContentAsString();
+
+        // Admit a group where the second kid is too old for the play site.
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}/batch", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new KidRequest("Kid1", 5),
+                                new KidRequest("Kid2", 12),
+                                new KidRequest("Kid3", 6)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(3)))
+                .andExpect(jsonPath("$[0].status", is("ADMITTED")))
+                .andExpect(jsonPath("$[0].kid.status", is("PLAYING")))
+                .andExpect(jsonPath("$[1].name", is("Kid2")))
+                .andExpect(jsonPath("$[1].status", is("REJECTED")))
+                .andExpect(jsonPath("$[1].reason", is("AGE_RESTRICTION")))
+                .andExpect(jsonPath("$[2].status", is("ADMITTED")));
+
+        // Verify the group is on the play site.
+        mockMvc.perform(get("/api/v1/kids/play-site/{id}", playSiteUUID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)));
+    }
+
+    @Test
+    void testReserveAndRemoveGroup() throws Exception {
+
+        // Create a PlaySiteRequest object with a capacity of 3.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0006", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 3
+                ))
+        );
+
+        // Perform the POST request.
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String playSiteUUID = mvcResult.getResponse().getContentAsString();
+
+        // Reserve seats for a family of three.
+        MvcResult groupResult = mockMvc.perform(post("/api/v1/kids/play-site/{id}/group", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new KidRequest("Kid1", 5),
+                                new KidRequest("Kid2", 6),
+                                new KidRequest("Kid3", 7)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status", is("PLAYING")))
+                .andExpect(jsonPath("$.kids.length()", is(3)))
+                .andReturn();
+        String groupLocation = groupResult.getResponse().getRedirectedUrl();
+
+        // The group is reachable under its location and can leave as a whole.
+        mockMvc.perform(get(Objects.requireNonNull(groupLocation)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(3)));
+        mockMvc.perform(delete(groupLocation))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+        mockMvc.perform(get(groupLocation))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testConditionalGetOfPlaySiteAndKids() throws Exception {
+
+        // Create a PlaySiteRequest object.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0007", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        );
+
+        // Perform the POST request.
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String playSiteUUID = mvcResult.getResponse().getContentAsString();
+
+        // The first reads carry the version of the play site as ETag.
+        String playSiteETag = mockMvc.perform(get("/api/v1/play-sites/{id}", playSiteUUID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        String kidsETag = mockMvc.perform(get("/api/v1/kids/play-site/{id}", playSiteUUID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Nothing changed, not modified without a body.
+        mockMvc.perform(get("/api/v1/play-sites/{id}", playSiteUUID).header("If-None-Match", playSiteETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/kids/play-site/{id}", playSiteUUID).header("If-None-Match", kidsETag))
+                .andExpect(status().isNotModified());
+
+        // A kid arrives, the old ETags no longer match.
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KidRequest("Kid1", 5))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/play-sites/{id}", playSiteUUID).header("If-None-Match", playSiteETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.occupied_capacity", is(1)));
+        mockMvc.perform(get("/api/v1/kids/play-site/{id}", playSiteUUID).header("If-None-Match", kidsETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)));
+    }
+
+    @Test
+    void testPlaySiteChangesStreamedAsServerSentEvents() throws Exception {
+
+        // Create a PlaySiteRequest object.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0008", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        );
+
+        // Perform the POST request.
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String playSiteUUID = mvcResult.getResponse().getContentAsString();
+
+        // Subscribe to the changes of the play site.
+        MvcResult events = mockMvc.perform(get("/api/v1/analytics/play-site/{id}/events", playSiteUUID)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // A kid arrives.
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KidRequest("Kid1", 5))))
+                .andExpect(status().isCreated());
+
+        // The stream starts with the current state and then carries the admission.
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = events.getResponse().getContentAsString();
+        while (!content.contains("\"occupied_capacity\":1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = events.getResponse().getContentAsString();
+        }
+        assert content.contains("event:play-site");
+        assert content.contains("\"occupied_capacity\":1") : content;
+        assert content.contains("\"admitted\":1") : content;
+
+        // Unknown play site.
+        mockMvc.perform(get("/api/v1/analytics/play-site/{id}/events", UUID.randomUUID())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testEnqueueKidWithValidKidAndPlaySite() throws Exception {
 
@@ -174,8 +399,9 @@ public class KidControllerTest {
                         .content(objectMapper.writeValueAsString(kidRequest)))
                 .andReturn();
         // 50% chance of not accepting waiting
-        if (mvcKidResult.getResponse().getStatus() == HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+        if (mvcKidResult.getResponse().getStatus() == HttpStatus.CONFLICT.value()) {
             assert mvcKidResult.getResponse().getContentAsString().contains("enqueue rejected for the play site");
+            assert mvcKidResult.getResponse().getContentAsString().contains("ENQUEUE_REJECTED");
         } else {
             mockMvc.perform(get(Objects.requireNonNull(mvcKidResult.getResponse().getRedirectedUrl()))
                             .contentType(MediaType.APPLICATION_JSON))
@@ -183,8 +409,112 @@ public class KidControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.name", is("Kid1")))
-                    .andExpect(jsonPath("$.status", is("WAITING")));
+                    // The play site has free seats, so the kid plays at once.
+                    .andExpect(jsonPath("$.status", is("PLAYING")));
         }
 
     }
+
+    @Test
+    void testEnqueueKidToFullQueue_TooManyRequests() throws Exception {
+        // A play site which does not queue anybody.
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0004", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                )), 0
+        );
+        String playSiteUUID = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // Two kids play and leave, so the play site knows its departure rate.
+        for (int i = 0; i < 2; i++) {
+            String ticketNumber = mockMvc.perform(post("/api/v1/kids/play-site/{id}", playSiteUUID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new KidRequest("Kid" + i, 5))))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            mockMvc.perform(delete("/api/v1/kids/{ticket}", ticketNumber))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}/queue", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KidRequest("Kid3", 5))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.reason", is("QUEUE_FULL")));
+    }
+
+    @Test
+    void testUpdateEquipmentsOfLivePlaySite() throws Exception {
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0005", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        );
+        String playSiteUUID = mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}/batch", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new KidRequest("Kid1", 5), new KidRequest("Kid2", 5)))))
+                .andExpect(status().isOk());
+
+        // With a single seat left the kid admitted last goes back to the queue.
+        mockMvc.perform(put("/api/v1/play-sites/{id}/equipments", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(1))
+                .andExpect(jsonPath("$.occupied_capacity").value(1))
+                .andExpect(jsonPath("$.queued").value(1));
+        mockMvc.perform(get("/api/v1/play-sites/{id}", playSiteUUID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.kid_queue[0].name", is("Kid2")))
+                .andExpect(jsonPath("$.kid_queue[0].status", is("WAITING")));
+
+        mockMvc.perform(put("/api/v1/play-sites/{id}/equipments", playSiteUUID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Set.of(new EquipmentRequest(UUID.randomUUID(), 2)))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCreatePlaySiteWithInvalidLimits() throws Exception {
+        // Sessions ending right away and a negative queue length are both refused.
+        mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PlaySiteRequest("play-site-0006", 10,
+                                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)), null, Duration.ZERO))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("max_play_duration: must be positive")));
+
+        mockMvc.perform(post("/api/v1/play-sites")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"play-site-0006\", \"age_restriction\": 10, \"max_queue_length\": -1, "
+                                + "\"equipments\": [{\"id\": \"" + EquipmentType.SLIDE.getUUID() + "\", \"capacity\": 1}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("max_queue_length: must be greater than or equal to 0")));
+    }
+
+    @Test
+    void testBatchBeyondMaximumSize_PayloadTooLarge() throws Exception {
+        // One kid more than the configured maximum of 100, rejected before the play site is looked up.
+        List<KidRequest> kids = Collections.nCopies(101, new KidRequest("Kid", 5));
+        String body = objectMapper.writeValueAsString(kids);
+
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}/batch", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+        mockMvc.perform(post("/api/v1/kids/play-site/{id}/group", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+    }
 }
@@ -5,7 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.v1.cache.SerializedResponseCache;
+import org.project.playgrounds.v1.controller.PlaySiteController;
 import org.project.playgrounds.v1.dto.*;
+import org.project.playgrounds.v1.service.IPlaygroundService;
 import org.project.playgrounds.v1.service.PlaygroundService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.*;
 
@@ -22,6 +26,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.CoreMatchers.is;
 
 @SpringBootTest
@@ -34,6 +39,12 @@ public class PlaygroundControllerTest {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private IPlaygroundService playgroundService;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
     @Test
     void testCreatePlaySite() throws Exception {
         // Create a PlaySiteRequest object.
@@ -99,6 +110,122 @@ public class PlaygroundControllerTest {
     }
 
 
+    @Test
+    void testCreatePlaySitesInBulk_InvalidLinesReportedPerLine() throws Exception {
+        // Only invalid lines, so no play site is created.
+        String lines = mapper.writeValueAsString(new PlaySiteRequest("site-1", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1))))
+                + "\n{not json}\n"
+                + mapper.writeValueAsString(new PlaySiteRequest("play-site-0001", 10, Set.of())) + "\n";
+
+        // Perform the POST request with newline delimited JSON.
+        mockMvc.perform(post("/api/v1/play-sites/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(lines))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].line").value(1))
+                .andExpect(jsonPath("$[0].errors[0]", is("name: Invalid play site name format")))
+                .andExpect(jsonPath("$[1].line").value(2))
+                .andExpect(jsonPath("$[1].errors[0]", is("play site request could not be read")))
+                .andExpect(jsonPath("$[2].errors[0]", is("equipments: must not be empty")));
+
+        // Perform the POST request with a JSON array.
+        mockMvc.perform(post("/api/v1/play-sites/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(new PlaySiteRequest("play-site-0001", 0,
+                                Set.of(new EquipmentRequest(UUID.randomUUID(), 1)))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].errors.length()").value(2));
+    }
+
+    @Test
+    void testCreatePlaySitesInBulk_BlankLinesSkipped_LinesBeyondMaximumRejected() throws Exception {
+        // A controller reading at most two lines, in front of the same service.
+        MockMvc limited = MockMvcBuilders.standaloneSetup(
+                new PlaySiteController(playgroundService, mapper, responseCache, 2)).build();
+        String invalid = mapper.writeValueAsString(new PlaySiteRequest("site-1", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1))));
+
+        // The blank line is neither reported nor counted, the fourth line is one too many.
+        limited.perform(post("/api/v1/play-sites/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(invalid + "\n\n" + invalid + "\n" + invalid + "\n" + invalid + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].line").value(1))
+                .andExpect(jsonPath("$[1].line").value(3))
+                .andExpect(jsonPath("$[2].line").value(4))
+                .andExpect(jsonPath("$[2].errors[0]", is("bulk request exceeds the maximum of 2 lines")));
+    }
+
+    @Test
+    void testGetPlaySites_PagedAndStreamed_MatchFullListing() throws Exception {
+        // The full listing, ordered by id as the pages and the stream are.
+        MvcResult listResult = mockMvc.perform(get("/api/v1/play-sites/list"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        List<String> expected = new ArrayList<>();
+        mapper.readTree(listResult.getResponse().getContentAsString()).forEach(site -> expected.add(site.get("id").asText()));
+        expected.sort(Comparator.comparing(UUID::fromString));
+
+        // Follow the next links page by page.
+        List<String> paged = new ArrayList<>();
+        String next = "/api/v1/play-sites/list?limit=2";
+        while (next != null) {
+            MvcResult pageResult = mockMvc.perform(get(next))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            mapper.readTree(pageResult.getResponse().getContentAsString()).forEach(site -> paged.add(site.get("id").asText()));
+            String link = pageResult.getResponse().getHeader("Link");
+            next = link == null ? null : link.substring(link.indexOf("/api"), link.indexOf('>'));
+        }
+        assertEquals(expected, paged);
+
+        // Stream the listing as newline delimited JSON.
+        MvcResult streamResult = mockMvc.perform(get("/api/v1/play-sites/list")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String lines = mockMvc.perform(asyncDispatch(streamResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<String> streamed = new ArrayList<>();
+        for (String line : lines.split("\n")) {
+            if (!line.isEmpty()) {
+                streamed.add(mapper.readTree(line).get("id").asText());
+            }
+        }
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    void testGetPlaySiteSummaries_SameSitesAsListingWithoutKids() throws Exception {
+        MvcResult listResult = mockMvc.perform(get("/api/v1/play-sites/list"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Set<String> expected = new HashSet<>();
+        mapper.readTree(listResult.getResponse().getContentAsString()).forEach(site -> expected.add(site.get("id").asText()));
+
+        // Perform the GET request.
+        MvcResult summaryResult = mockMvc.perform(get("/api/v1/play-sites/summaries"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[*].kids_on_site").isEmpty())
+                .andReturn();
+        Set<String> summaries = new HashSet<>();
+        mapper.readTree(summaryResult.getResponse().getContentAsString()).forEach(site -> summaries.add(site.get("id").asText()));
+        assertEquals(expected, summaries);
+
+        // Unknown play site.
+        mockMvc.perform(get("/api/v1/play-sites/{id}/summary", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetPlaySite() throws Exception {
         PlaySiteRequest request = new PlaySiteRequest("play-site-0004", 10,
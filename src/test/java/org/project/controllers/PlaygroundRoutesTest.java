@@ -0,0 +1,113 @@
+package org.project.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.v1.dto.EquipmentRequest;
+import org.project.playgrounds.v1.dto.KidRequest;
+import org.project.playgrounds.v1.dto.PlaySiteRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PlaygroundRoutesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testPlaySiteAndKidsThroughAsyncRoutes() throws Exception {
+        PlaySiteRequest request = new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)));
+
+        // Perform the POST request.
+        MvcResult created = perform(post("/api/v2/play-sites")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String playSiteId = created.getResponse().getContentAsString();
+
+        // The context is shared with the other controller tests, counts are taken relative to it.
+        long onSite = Long.parseLong(perform(get("/api/v2/analytics/total-on-site"))
+                .andReturn().getResponse().getContentAsString());
+
+        // Add a kid, then read it back.
+        String ticketNumber = perform(post("/api/v2/kids/play-site/{id}", playSiteId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new KidRequest("Kid1", 5))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        perform(get("/api/v2/kids/play-site/{id}/playing/{ticket}", playSiteId, ticketNumber))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Kid1")));
+
+        perform(get("/api/v2/play-sites/{id}/summary", playSiteId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.occupied_capacity").value(1));
+
+        perform(get("/api/v2/analytics/total-on-site"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Long.toString(onSite + 1)));
+
+        // The kid leaves.
+        perform(delete("/api/v2/kids/{ticket}", ticketNumber))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+
+        perform(get("/api/v2/analytics/total-on-site"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Long.toString(onSite)));
+
+        perform(get("/api/v2/play-sites/list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '%s')]['play-sites'].occupied_capacity", playSiteId).value(0));
+    }
+
+    @Test
+    void testUnknownPlaySiteAnsweredByExceptionHandler() throws Exception {
+        perform(get("/api/v2/play-sites/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        perform(post("/api/v2/kids/play-site/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new KidRequest("Kid1", 5))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGroupBeyondMaximumSize_PayloadTooLarge() throws Exception {
+        perform(post("/api/v2/kids/play-site/{id}/group", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.nCopies(101, new KidRequest("Kid", 5)))))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    // Every v2 handler completes asynchronously, the servlet thread is released before the result.
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,168 @@
+package org.project.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.PlaygroundApplication;
+import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.v1.dto.EquipmentRequest;
+import org.project.playgrounds.v1.dto.KidRequest;
+import org.project.playgrounds.v1.dto.PlaySiteRequest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares Tomcat's default request pool of 200 platform threads with a virtual thread per request.
+ * <p>
+ * The application is started once per mode on a random port and driven over HTTP by more clients
+ * than Tomcat has threads, every client admitting a kid to one of a few small play sites and
+ * letting it leave again, so requests contend for the play site locks. The latency includes the
+ * time a request waits for a thread. Tagged as a benchmark, so it only runs when asked for:
+ * {@code mvn test -Dtest=RequestExecutionBenchmarkTest -Dgroups=benchmark -Dsurefire.excludedGroups=}.
+ * The virtual thread run needs Java 21 and is skipped on older runtimes.
+ */
+@Slf4j
+@Tag("benchmark")
+public class RequestExecutionBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int VISITS_PER_CLIENT = 25;
+    private static final int WARM_UP_VISITS_PER_CLIENT = 5;
+    private static final int SITES = 4;
+    private static final int SITE_CAPACITY = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void testPlatformThreadPoolAgainstVirtualThreads() throws Exception {
+        Result platform = run("platform threads");
+        log.info("{}", platform);
+        assertEquals(0, platform.failed());
+
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21");
+        Result virtual = run("virtual threads", "virtual-threads");
+        log.info("{}", virtual);
+        assertEquals(0, virtual.failed());
+        log.info("virtual/platform: throughput x{}, p99 latency x{}",
+                String.format("%.1f", virtual.throughput() / platform.throughput()),
+                String.format("%.2f", (double) virtual.p99() / platform.p99()));
+    }
+
+    private Result run(String name, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PlaygroundApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "playground.admission.policy=ALWAYS_ACCEPT", "logging.level.org.project.playgrounds=warn")
+                .run()) {
+            URI base = URI.create("http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort());
+            List<String> playSiteIds = new ArrayList<>();
+            for (int i = 0; i < SITES; i++) {
+                playSiteIds.add(send(post(base.resolve("/api/v1/play-sites"), new PlaySiteRequest(String.format("play-site-000%d", i), 10,
+                        Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), SITE_CAPACITY))))).body());
+            }
+
+            measure(base, playSiteIds, WARM_UP_VISITS_PER_CLIENT);
+            long start = System.nanoTime();
+            List<Long> latencies = measure(base, playSiteIds, VISITS_PER_CLIENT);
+            long elapsed = System.nanoTime() - start;
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).filter(latency -> latency >= 0).sorted().toArray();
+            assertTrue(sorted.length > 0, "no request succeeded");
+            return new Result(name, sorted.length, latencies.size() - sorted.length, sorted.length * 1e9 / elapsed,
+                    percentile(sorted, 50), percentile(sorted, 99), sorted[sorted.length - 1]);
+        }
+    }
+
+    /**
+     * Lets every client visit the play sites at once, returns the latency of every request, or -1
+     * for a request which failed.
+     */
+    private List<Long> measure(URI base, List<String> playSiteIds, int visits) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int c = 0; c < CLIENTS; c++) {
+                String playSiteId = playSiteIds.get(c % SITES);
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    List<Long> latencies = new ArrayList<>(2 * visits);
+                    for (int i = 0; i < visits; i++) {
+                        visit(base, playSiteId, latencies);
+                    }
+                    return latencies;
+                }));
+            }
+            start.countDown();
+            List<Long> latencies = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                latencies.addAll(future.get(5, TimeUnit.MINUTES));
+            }
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Admits a kid, queued if the play site is full, and lets it leave again.
+     */
+    private void visit(URI base, String playSiteId, List<Long> latencies) throws Exception {
+        long submitted = System.nanoTime();
+        HttpResponse<String> admission = send(post(base.resolve("/api/v1/kids/play-site/" + playSiteId + "/batch"),
+                List.of(new KidRequest("Kid", 5))));
+        if (admission.statusCode() != 200) {
+            latencies.add(-1L);
+            return;
+        }
+        latencies.add(System.nanoTime() - submitted);
+
+        JsonNode kid = objectMapper.readTree(admission.body()).get(0).get("kid");
+        submitted = System.nanoTime();
+        HttpResponse<String> departure = send(HttpRequest.newBuilder(base.resolve("/api/v1/kids/" + kid.get("ticket_number").asText()))
+                .DELETE()
+                .build());
+        latencies.add(departure.statusCode() == 200 ? System.nanoTime() - submitted : -1L);
+    }
+
+    private HttpRequest post(URI uri, Object body) throws Exception {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private record Result(String name, int succeeded, int failed, double throughput, long p50, long p99, long max) {
+        @Override
+        public String toString() {
+            return String.format("%-16s %,10.0f requests/s  p50 %,8.2f ms  p99 %,8.2f ms  max %,8.2f ms  (%d failed)",
+                    name, throughput, p50 / 1e6, p99 / 1e6, max / 1e6, failed);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.project.services;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.enums.AdmissionPolicy;
+import org.project.playgrounds.v1.admission.AdmissionController;
+import org.project.playgrounds.v1.admission.QueueLoad;
+import org.project.playgrounds.v1.factory.AdmissionControllerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControllerTest {
+
+    @Test
+    void testBoundedQueue_SiteMaximumOverridesDefault() {
+        AdmissionController controller = AdmissionControllerFactory.create(AdmissionPolicy.BOUNDED_QUEUE, 3, Duration.ofMinutes(30));
+        assertEquals(AdmissionPolicy.BOUNDED_QUEUE, controller.policy());
+
+        // The default maximum of three.
+        assertTrue(controller.acceptsWaiting(new QueueLoad(2, 1, null, Duration.ZERO)));
+        assertFalse(controller.acceptsWaiting(new QueueLoad(3, 1, null, Duration.ZERO)));
+        // A group must fit as a whole.
+        assertFalse(controller.acceptsWaiting(new QueueLoad(1, 3, null, Duration.ZERO)));
+        // The play site maximum.
+        assertTrue(controller.acceptsWaiting(new QueueLoad(3, 1, 10, Duration.ZERO)));
+        assertFalse(controller.acceptsWaiting(new QueueLoad(0, 1, 0, Duration.ZERO)));
+    }
+
+    @Test
+    void testEarlyDrop_AcceptsBelowHalfAndRejectsAtMaximum() {
+        AdmissionController controller = AdmissionControllerFactory.create(AdmissionPolicy.EARLY_DROP, 10, Duration.ofMinutes(10));
+
+        for (int i = 0; i < 100; i++) {
+            // Little load, always queued.
+            assertTrue(controller.acceptsWaiting(new QueueLoad(4, 1, null, Duration.ofMinutes(5))));
+            // The queue is full or the wait too long, never queued.
+            assertFalse(controller.acceptsWaiting(new QueueLoad(9, 1, null, Duration.ZERO)));
+            assertFalse(controller.acceptsWaiting(new QueueLoad(0, 1, null, Duration.ofMinutes(10))));
+        }
+
+        // In between some kids are queued and some are not.
+        int accepted = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (controller.acceptsWaiting(new QueueLoad(6, 1, null, Duration.ZERO))) {
+                accepted++;
+            }
+        }
+        assertTrue(accepted > 0 && accepted < 1000, "accepted " + accepted);
+    }
+
+    @Test
+    void testAlwaysAcceptAndRandom() {
+        AdmissionController alwaysAccept = AdmissionControllerFactory.create(AdmissionPolicy.ALWAYS_ACCEPT, 0, Duration.ZERO);
+        assertTrue(alwaysAccept.acceptsWaiting(new QueueLoad(1_000_000, 1, 0, Duration.ofDays(1))));
+
+        AdmissionController random = AdmissionControllerFactory.create(AdmissionPolicy.RANDOM, 0, Duration.ZERO);
+        int accepted = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (random.acceptsWaiting(new QueueLoad(0, 1, null, Duration.ZERO))) {
+                accepted++;
+            }
+        }
+        assertTrue(accepted > 350 && accepted < 650, "accepted " + accepted);
+    }
+}
@@ -0,0 +1,109 @@
+package org.project.services;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.v1.analytics.DailyVisitorCounter;
+import org.project.playgrounds.v1.dto.DailyVisitorCount;
+
+import java.time.*;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DailyVisitorCounterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Helsinki");
+
+    @Test
+    void testIncrement_ConcurrentVisitorsAreNotLost() throws Exception {
+        DailyVisitorCounter counter = new DailyVisitorCounter(Clock.system(ZONE), 7);
+        UUID playSite1 = UUID.randomUUID();
+        UUID playSite2 = UUID.randomUUID();
+
+        // Count visitors of two play sites from many threads.
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            UUID playSite = t % 2 == 0 ? playSite1 : playSite2;
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.increment(playSite);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Verify the total and the per play site breakdown.
+        assertEquals(80_000, counter.total());
+        DailyVisitorCount today = counter.today();
+        assertEquals(80_000, today.total());
+        assertEquals(40_000, today.playSites().get(playSite1));
+        assertEquals(40_000, today.playSites().get(playSite2));
+    }
+
+    @Test
+    void testRollover_AtLocalMidnight_KeepsPreviousDays() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2023, 6, 16, 23, 59).atZone(ZONE).toInstant());
+        DailyVisitorCounter counter = new DailyVisitorCounter(clock, 2);
+        UUID playSite = UUID.randomUUID();
+
+        // Count visitors just before midnight.
+        counter.increment(playSite);
+        counter.increment(playSite);
+        assertEquals(2, counter.total());
+
+        // After midnight the current day starts at zero and the previous day is kept.
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(0, counter.total());
+        counter.increment(playSite);
+        assertEquals(1, counter.total());
+        assertEquals(LocalDate.of(2023, 6, 17), counter.today().date());
+
+        List<DailyVisitorCount> previousDays = counter.previousDays();
+        assertEquals(1, previousDays.size());
+        assertEquals(LocalDate.of(2023, 6, 16), previousDays.get(0).date());
+        assertEquals(2, previousDays.get(0).total());
+        assertEquals(2, previousDays.get(0).playSites().get(playSite));
+
+        // Only the configured number of previous days is retained, most recent first.
+        clock.advance(Duration.ofDays(1));
+        counter.increment(playSite);
+        clock.advance(Duration.ofDays(1));
+        previousDays = counter.previousDays();
+        assertEquals(2, previousDays.size());
+        assertEquals(LocalDate.of(2023, 6, 18), previousDays.get(0).date());
+        assertEquals(1, previousDays.get(0).total());
+        assertEquals(LocalDate.of(2023, 6, 17), previousDays.get(1).date());
+        assertEquals(1, previousDays.get(1).total());
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.project.services;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.enums.PlaySiteChangeType;
+import org.project.playgrounds.v1.dto.PlaySiteChange;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlaySiteEventPublisherTest {
+
+    @Test
+    void testCoalesce_CountsAddUpAndLatestStateWins() {
+        UUID playSite = UUID.randomUUID();
+        PlaySiteChange admitted = PlaySiteChange.of(PlaySiteChangeType.ADMITTED, playSite, 1, 1, 0, 50.0);
+        PlaySiteChange enqueued = PlaySiteChange.of(PlaySiteChangeType.ENQUEUED, playSite, 3, 2, 1, 100.0);
+        PlaySiteChange promoted = PlaySiteChange.of(PlaySiteChangeType.PROMOTED, playSite, 4, 2, 0, 100.0);
+
+        // Changes published out of order still end in the newest state.
+        PlaySiteChange coalesced = admitted.coalesce(promoted).coalesce(enqueued);
+
+        assertEquals(4, coalesced.version());
+        assertEquals(1, coalesced.admitted());
+        assertEquals(1, coalesced.enqueued());
+        assertEquals(1, coalesced.promoted());
+        assertEquals(0, coalesced.removed());
+        assertEquals(2, coalesced.occupiedCapacity());
+        assertEquals(0, coalesced.queued());
+        assertEquals(100.0, coalesced.utilization());
+    }
+
+    @Test
+    void testSubscribe_RegistersSubscriber() {
+        PlaySiteEventPublisher publisher = new PlaySiteEventPublisher(Duration.ofMinutes(1));
+        assertFalse(publisher.hasSubscribers());
+
+        publisher.subscribe(null, List::of);
+
+        assertTrue(publisher.hasSubscribers());
+        assertEquals(1, publisher.subscriberCount());
+        publisher.shutdown();
+    }
+
+    @Test
+    void testShutdown_LeavesInjectedExecutorRunning() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        PlaySiteEventPublisher publisher = new PlaySiteEventPublisher(Duration.ofMinutes(1), Optional.of(executor));
+
+        // The executor belongs to the context which created it, not to the publisher.
+        publisher.shutdown();
+
+        assertFalse(executor.isShutdown());
+        executor.shutdownNow();
+    }
+}
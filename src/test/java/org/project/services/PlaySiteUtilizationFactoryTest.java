@@ -0,0 +1,40 @@
+package org.project.services;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.v1.dto.Equipment;
+import org.project.playgrounds.v1.factory.PlaySiteUtilizationFactory;
+import org.project.playgrounds.v1.strategy.DefaultPlaySiteUtilization;
+import org.project.playgrounds.v1.strategy.DoubleSwingsPlaySiteUtilization;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlaySiteUtilizationFactoryTest {
+
+    private final PlaySiteUtilizationFactory factory = new PlaySiteUtilizationFactory(
+            List.of(new DoubleSwingsPlaySiteUtilization(), new DefaultPlaySiteUtilization()));
+
+    @Test
+    void testGetCalculator_OnlyDoubleSwings_DoubleSwingsUtilization() {
+        assertInstanceOf(DoubleSwingsPlaySiteUtilization.class, factory.getCalculator(Set.of(
+                new Equipment(EquipmentType.DOUBLE_SWINGS.getUUID(), EquipmentType.DOUBLE_SWINGS, 2))));
+    }
+
+    @Test
+    void testGetCalculator_OtherOrMixedEquipments_DefaultUtilization() {
+        Equipment slide = new Equipment(EquipmentType.SLIDE.getUUID(), EquipmentType.SLIDE, 2);
+        Equipment swings = new Equipment(EquipmentType.DOUBLE_SWINGS.getUUID(), EquipmentType.DOUBLE_SWINGS, 2);
+
+        assertInstanceOf(DefaultPlaySiteUtilization.class, factory.getCalculator(Set.of(slide)));
+        assertInstanceOf(DefaultPlaySiteUtilization.class, factory.getCalculator(Set.of(slide, swings)));
+        assertInstanceOf(DefaultPlaySiteUtilization.class, factory.getCalculator(Set.of()));
+    }
+
+    @Test
+    void testFactory_WithoutDefaultUtilization_ThrowIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new PlaySiteUtilizationFactory(List.of(new DoubleSwingsPlaySiteUtilization())));
+    }
+}
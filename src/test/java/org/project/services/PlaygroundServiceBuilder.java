@@ -0,0 +1,69 @@
+package org.project.services;
+
+import org.project.playgrounds.v1.admission.AdmissionController;
+import org.project.playgrounds.v1.admission.AlwaysAcceptAdmissionController;
+import org.project.playgrounds.v1.analytics.DailyVisitorCounter;
+import org.project.playgrounds.v1.analytics.ParkOccupancy;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
+import org.project.playgrounds.v1.factory.PlaySiteUtilizationFactory;
+import org.project.playgrounds.v1.scheduler.TimingWheel;
+import org.project.playgrounds.v1.service.PlaygroundService;
+import org.project.playgrounds.v1.strategy.DefaultPlaySiteUtilization;
+import org.project.playgrounds.v1.strategy.DoubleSwingsPlaySiteUtilization;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Builds a {@link PlaygroundService} for the service tests, with the collaborators the application
+ * configures and an admission controller queueing every kid. Tests replace the collaborators they
+ * stub or inspect.
+ */
+class PlaygroundServiceBuilder {
+    private AdmissionController admissionController = new AlwaysAcceptAdmissionController();
+    private PlaySiteUtilizationFactory siteUtilizationFactory = new PlaySiteUtilizationFactory(
+            List.of(new DefaultPlaySiteUtilization(), new DoubleSwingsPlaySiteUtilization()));
+    private final DailyVisitorCounter visitorCounter = new DailyVisitorCounter(Clock.systemDefaultZone(), 7);
+    private ParkOccupancy parkOccupancy = new ParkOccupancy();
+    private PlaySiteEventPublisher eventPublisher = new PlaySiteEventPublisher(Duration.ofMinutes(1));
+    private TimingWheel sessionTimer;
+    private int maxBatchSize = 100;
+
+    PlaygroundServiceBuilder admissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+        return this;
+    }
+
+    PlaygroundServiceBuilder siteUtilizationFactory(PlaySiteUtilizationFactory siteUtilizationFactory) {
+        this.siteUtilizationFactory = siteUtilizationFactory;
+        return this;
+    }
+
+    PlaygroundServiceBuilder parkOccupancy(ParkOccupancy parkOccupancy) {
+        this.parkOccupancy = parkOccupancy;
+        return this;
+    }
+
+    PlaygroundServiceBuilder eventPublisher(PlaySiteEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        return this;
+    }
+
+    PlaygroundServiceBuilder sessionTimer(TimingWheel sessionTimer) {
+        this.sessionTimer = sessionTimer;
+        return this;
+    }
+
+    PlaygroundServiceBuilder maxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    PlaygroundService build() {
+        // The default timing wheel runs a thread, so it is only started when no test timer is given.
+        TimingWheel timer = sessionTimer != null ? sessionTimer : new TimingWheel(Duration.ofSeconds(1));
+        return new PlaygroundService(admissionController, siteUtilizationFactory, visitorCounter,
+                parkOccupancy, eventPublisher, timer, maxBatchSize);
+    }
+}
@@ -0,0 +1,190 @@
+package org.project.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.exceptions.NotFoundException;
+import org.project.playgrounds.exceptions.PlaySiteFullException;
+import org.project.playgrounds.v1.dto.*;
+import org.project.playgrounds.v1.service.PlaygroundService;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlaygroundServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final int SITE_CAPACITY = 5;
+
+    private PlaygroundService playgroundService;
+
+    @BeforeEach
+    void setUp() {
+        // Every kid accepts waiting, so every enqueue succeeds.
+        playgroundService = new PlaygroundServiceBuilder().build();
+    }
+
+    @Test
+    void testConcurrentAdmissions_CapacityAndFifoInvariantsHold() throws Exception {
+        // Create a few play sites so the threads both share and spread over sites.
+        List<UUID> playSiteIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            playSiteIds.add(playgroundService.createPlaySite(new PlaySiteRequest(String.format("play-site-000%d", i), 10,
+                    Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), SITE_CAPACITY)))));
+        }
+
+        // Sample the play sites while they are hammered, the capacity must never be exceeded.
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<String> violations = new CopyOnWriteArrayList<>();
+        Thread observer = new Thread(() -> {
+            while (running.get()) {
+                for (UUID playSiteId : playSiteIds) {
+                    PlaySite playSite = playgroundService.getPlaySite(playSiteId);
+                    if (playSite.kidsOnSite().size() > playSite.capacity()) {
+                        violations.add("capacity exceeded on " + playSiteId + ": " + playSite.kidsOnSite().size());
+                    }
+                }
+            }
+        });
+        observer.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Worker>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Worker worker = new Worker(playSiteIds, t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                worker.run();
+                return worker;
+            }));
+        }
+        start.countDown();
+
+        List<Worker> workers = new ArrayList<>();
+        for (Future<Worker> future : futures) {
+            workers.add(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        running.set(false);
+        observer.join();
+
+        assertTrue(violations.isEmpty(), violations.toString());
+
+        // The park wide aggregates match the play sites.
+        long onSite = 0;
+        long queued = 0;
+        for (UUID playSiteId : playSiteIds) {
+            PlaySite playSite = playgroundService.getPlaySite(playSiteId);
+            onSite += playSite.kidsOnSite().size();
+            queued += playSite.kidQueue().size();
+        }
+        assertEquals(onSite, playgroundService.getTotalOnSite());
+        assertEquals(queued, playgroundService.getTotalQueued());
+
+        for (UUID playSiteId : playSiteIds) {
+            PlaySite playSite = playgroundService.getPlaySite(playSiteId);
+
+            // Capacity is respected.
+            assertTrue(playSite.kidsOnSite().size() <= SITE_CAPACITY);
+
+            // Every ticket still held by a worker is present exactly once, nothing else is.
+            Set<UUID> expected = new HashSet<>();
+            workers.forEach(worker -> expected.addAll(worker.held.getOrDefault(playSiteId, Set.of())));
+            List<UUID> actual = new ArrayList<>();
+            playSite.kidsOnSite().forEach(kid -> actual.add(kid.ticketNumber()));
+            playSite.kidQueue().forEach(kid -> actual.add(kid.ticketNumber()));
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+
+            // FIFO: for every worker, waiting kids keep their enqueue order and none of them was
+            // overtaken by a later enqueued kid of the same worker that got promoted.
+            for (Worker worker : workers) {
+                Map<UUID, Long> enqueued = worker.enqueued.getOrDefault(playSiteId, Map.of());
+                long lastWaiting = -1;
+                long firstWaiting = Long.MAX_VALUE;
+                for (Kid kid : playSite.kidQueue()) {
+                    Long sequence = enqueued.get(kid.ticketNumber());
+                    if (sequence != null) {
+                        assertTrue(sequence > lastWaiting, "queue order broken for worker " + worker.id);
+                        lastWaiting = sequence;
+                        firstWaiting = Math.min(firstWaiting, sequence);
+                    }
+                }
+                long lastPromoted = worker.lastPromoted.getOrDefault(playSiteId, -1L);
+                for (Kid kid : playSite.kidsOnSite()) {
+                    lastPromoted = Math.max(lastPromoted, enqueued.getOrDefault(kid.ticketNumber(), -1L));
+                }
+                assertTrue(lastPromoted < firstWaiting, "kid promoted ahead of the queue for worker " + worker.id);
+            }
+        }
+    }
+
+    /**
+     * Randomly admits, enqueues, removes and dequeues kids and remembers which tickets it still holds.
+     */
+    private class Worker {
+        private final List<UUID> playSiteIds;
+        private final int id;
+        private final Random random;
+        private final Map<UUID, Set<UUID>> held = new HashMap<>();
+        private final Map<UUID, Map<UUID, Long>> enqueued = new HashMap<>();
+        private final Map<UUID, Long> lastPromoted = new HashMap<>();
+        private long sequence = 0;
+
+        Worker(List<UUID> playSiteIds, int id) {
+            this.playSiteIds = playSiteIds;
+            this.id = id;
+            this.random = new Random(id);
+        }
+
+        void run() {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                UUID playSiteId = playSiteIds.get(random.nextInt(playSiteIds.size()));
+                Set<UUID> tickets = held.computeIfAbsent(playSiteId, key -> new LinkedHashSet<>());
+                if (tickets.isEmpty() || random.nextInt(100) < 55) {
+                    admit(playSiteId, tickets);
+                } else {
+                    leave(playSiteId, tickets);
+                }
+            }
+        }
+
+        private void admit(UUID playSiteId, Set<UUID> tickets) {
+            KidRequest kidRequest = new KidRequest("Kid" + id, 5);
+            try {
+                tickets.add(playgroundService.addKidToPlaySite(playSiteId, kidRequest).ticketNumber());
+            } catch (PlaySiteFullException e) {
+                Kid kid = playgroundService.enqueueKid(playSiteId, kidRequest);
+                tickets.add(kid.ticketNumber());
+                enqueued.computeIfAbsent(playSiteId, key -> new HashMap<>()).put(kid.ticketNumber(), sequence++);
+            }
+        }
+
+        private void leave(UUID playSiteId, Set<UUID> tickets) {
+            List<UUID> candidates = new ArrayList<>(tickets);
+            UUID ticketNumber = candidates.get(random.nextInt(candidates.size()));
+            Long enqueueSequence = enqueued.getOrDefault(playSiteId, Map.of()).get(ticketNumber);
+            // A waiting kid may be promoted by another worker between the two calls, kids only move
+            // from the queue onto the play site here, so the third attempt always finds it.
+            boolean removed = false;
+            for (int attempt = 0; attempt < 3 && !removed; attempt++) {
+                if (playgroundService.removeKidFromPlaySite(playSiteId, ticketNumber)) {
+                    removed = true;
+                    if (enqueueSequence != null) {
+                        lastPromoted.merge(playSiteId, enqueueSequence, Math::max);
+                    }
+                } else {
+                    removed = playgroundService.dequeueKid(playSiteId, ticketNumber);
+                }
+            }
+            assertTrue(removed, "ticket neither playing nor waiting: " + ticketNumber);
+            assertThrows(NotFoundException.class, () -> playgroundService.getKid(ticketNumber));
+            tickets.remove(ticketNumber);
+        }
+    }
+}
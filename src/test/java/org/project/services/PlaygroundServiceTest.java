@@ -1,37 +1,76 @@
 package org.project.services;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.playgrounds.enums.AdmissionStatus;
 import org.project.playgrounds.enums.EquipmentType;
+import org.project.playgrounds.enums.RejectionReason;
 import org.project.playgrounds.enums.StatusType;
 import org.project.playgrounds.exceptions.*;
+import org.project.playgrounds.v1.admission.AdmissionController;
+import org.project.playgrounds.v1.admission.AlwaysAcceptAdmissionController;
+import org.project.playgrounds.v1.admission.QueueLoad;
+import org.project.playgrounds.v1.analytics.ParkOccupancy;
 import org.project.playgrounds.v1.dto.*;
+import org.project.playgrounds.v1.events.PlaySiteEventPublisher;
 import org.project.playgrounds.v1.factory.PlaySiteUtilizationFactory;
+import org.project.playgrounds.v1.scheduler.TimingWheel;
 import org.project.playgrounds.v1.service.PlaygroundService;
 import org.project.playgrounds.v1.strategy.DefaultPlaySiteUtilization;
 import org.project.playgrounds.v1.strategy.DoubleSwingsPlaySiteUtilization;
 import org.project.playgrounds.v1.strategy.PlaySiteUtilization;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 public class PlaygroundServiceTest {
 
-    @Mock
-    private Random random;
+    private static final int MAX_BATCH_SIZE = 10;
 
-    @Mock
-    private PlaySiteUtilizationFactory playSiteUtilizationFactory;
+    // Queues every kid unless a test stubs it otherwise.
+    @Spy
+    private AdmissionController admissionController = new AlwaysAcceptAdmissionController();
+
+    @Spy
+    private PlaySiteUtilizationFactory playSiteUtilizationFactory = new PlaySiteUtilizationFactory(
+            List.of(new DefaultPlaySiteUtilization(), new DoubleSwingsPlaySiteUtilization()));
+
+    @Spy
+    private ParkOccupancy parkOccupancy = new ParkOccupancy();
+
+    @Spy
+    private PlaySiteEventPublisher eventPublisher = new PlaySiteEventPublisher(Duration.ofMinutes(1));
+
+    // Play sessions are timed against a clock the tests move by hand.
+    private final AtomicLong clock = new AtomicLong();
+
+    @Spy
+    private TimingWheel sessionTimer = new TimingWheel(Duration.ofSeconds(1), clock::get, false);
 
-    @InjectMocks
     private PlaygroundService playgroundService;
 
+    @BeforeEach
+    void setUp() {
+        playgroundService = new PlaygroundServiceBuilder()
+                .admissionController(admissionController)
+                .siteUtilizationFactory(playSiteUtilizationFactory)
+                .parkOccupancy(parkOccupancy)
+                .eventPublisher(eventPublisher)
+                .sessionTimer(sessionTimer)
+                .maxBatchSize(MAX_BATCH_SIZE)
+                .build();
+    }
+
     @Test
     void testCreatePlaySite() {
         // Create a new play site request.
@@ -51,6 +90,152 @@ public class PlaygroundServiceTest {
     }
 
 
+    @Test
+    void testCreatePlaySites_Bulk_CreatesValidAndReportsInvalidLines() {
+        List<PlaySiteRequest> requests = new ArrayList<>();
+        requests.add(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+        requests.add(new PlaySiteRequest("play-site-0002", 10,
+                Set.of(new EquipmentRequest(UUID.randomUUID(), 2))));
+        requests.add(null);
+        requests.add(new PlaySiteRequest("play-site-0003", 8,
+                Set.of(new EquipmentRequest(EquipmentType.BALL_PIT.getUUID(), 3))));
+
+        List<PlaySiteProvisioningResult> results = playgroundService.createPlaySites(requests);
+
+        // Verify the results follow the request order with one result per line.
+        assertEquals(4, results.size());
+        assertEquals(List.of(1, 2, 3, 4), results.stream().map(PlaySiteProvisioningResult::line).toList());
+        assertEquals("play-site-0001", playgroundService.getPlaySite(results.get(0).id()).name());
+        assertNull(results.get(1).id());
+        assertTrue(results.get(1).errors().get(0).startsWith("equipments.id: No Equipment found"));
+        assertEquals(List.of("play site request could not be read"), results.get(2).errors());
+        assertEquals("play-site-0003", playgroundService.getPlaySite(results.get(3).id()).name());
+
+        // Only the valid play sites are registered and counted in the park capacity.
+        assertEquals(2, playgroundService.getPlaySites().size());
+        assertEquals(5, playgroundService.getOccupancy().totalCapacity());
+    }
+
+    @Test
+    void testProvisionPlaySite_SingleLineRegisteredOrReported() {
+        PlaySiteProvisioningResult created = playgroundService.provisionPlaySite(7, new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+        PlaySiteProvisioningResult unreadable = playgroundService.provisionPlaySite(8, null);
+
+        // Every line keeps its number, only the valid one is registered.
+        assertEquals(7, created.line());
+        assertEquals("play-site-0001", playgroundService.getPlaySite(created.id()).name());
+        assertEquals(8, unreadable.line());
+        assertEquals(List.of("play site request could not be read"), unreadable.errors());
+        assertEquals(1, playgroundService.getPlaySites().size());
+        assertEquals(2, playgroundService.getOccupancy().totalCapacity());
+    }
+
+    @Test
+    void testGetPlaySites_CursorPagination_OrderedById() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(playgroundService.createPlaySite(new PlaySiteRequest(String.format("play-site-000%d", i), 10,
+                    Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)))));
+        }
+        Collections.sort(ids);
+
+        // Walk the pages of two play sites.
+        PlaySitePage<PlaySiteResponse> first = playgroundService.getPlaySites(null, 2);
+        PlaySitePage<PlaySiteResponse> second = playgroundService.getPlaySites(first.nextCursor(), 2);
+        PlaySitePage<PlaySiteResponse> last = playgroundService.getPlaySites(second.nextCursor(), 2);
+
+        assertEquals(ids.subList(0, 2), first.playSites().stream().map(PlaySiteResponse::id).toList());
+        assertEquals(ids.get(1), first.nextCursor());
+        assertEquals(ids.subList(2, 4), second.playSites().stream().map(PlaySiteResponse::id).toList());
+        assertEquals(ids.subList(4, 5), last.playSites().stream().map(PlaySiteResponse::id).toList());
+        assertNull(last.nextCursor());
+
+        // The stream continues after the cursor as well.
+        assertEquals(ids.subList(3, 5), playgroundService.streamPlaySites(ids.get(2)).map(PlaySiteResponse::id).toList());
+    }
+
+    @Test
+    void testPlaySiteSummary_FromMaintainedCounters() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0008", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid3", 5));
+
+        PlaySiteSummary summary = playgroundService.getPlaySiteSummary(playSiteUUID);
+
+        // Verify the headline numbers match the full play site.
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(playSite.name(), summary.name());
+        assertEquals(playSite.capacity(), summary.capacity());
+        assertEquals(playSite.occupiedCapacity(), summary.occupiedCapacity());
+        assertEquals(playSite.kidQueue().size(), summary.queued());
+        assertEquals(playgroundService.getPlaySiteUtilization(playSiteUUID), summary.utilization());
+        assertTrue(summary.isPlaySiteFull());
+        assertEquals(List.of(summary), playgroundService.getPlaySiteSummaries());
+        assertThrows(NotFoundException.class, () -> playgroundService.getPlaySiteSummary(UUID.randomUUID()));
+    }
+
+    @Test
+    void testPlaySiteVersion_IncrementedOnEveryChange() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0009", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1))));
+        long created = playgroundService.getPlaySiteVersion(playSiteUUID);
+
+        Kid kid = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        long admitted = playgroundService.getPlaySiteVersion(playSiteUUID);
+        assertTrue(admitted > created);
+
+        // Reads and failed changes keep the version.
+        playgroundService.getPlaySite(playSiteUUID);
+        assertFalse(playgroundService.removeKidFromPlaySite(playSiteUUID, UUID.randomUUID()));
+        assertThrows(PlaySiteFullException.class, () -> playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5)));
+        assertEquals(admitted, playgroundService.getPlaySiteVersion(playSiteUUID));
+
+        playgroundService.removeKidFromPlaySite(playSiteUUID, kid.ticketNumber());
+        assertTrue(playgroundService.getPlaySiteVersion(playSiteUUID) > admitted);
+    }
+
+    @Test
+    void testPlaySiteCapacity_HugeCapacityCreatedWithoutPreallocating() {
+        // Kid buffers are sized as kids arrive, not from the capacity of the play site.
+        UUID playSiteUUID = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> playgroundService.createPlaySite(
+                new PlaySiteRequest("play-site-0001", 10,
+                        Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2_000_000_000)), 2_000_000_000)));
+
+        for (int i = 0; i < 2000; i++) {
+            playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid" + i, 5));
+        }
+        assertEquals(2000, playgroundService.getPlaySiteSummary(playSiteUUID).occupiedCapacity());
+        assertEquals(2_000_000_000, playgroundService.getPlaySiteSummary(playSiteUUID).capacity());
+    }
+
+    @Test
+    void testPlaySiteCapacity_SumOfEquipmentCapacities() {
+        // Create a play site with a slide and a ball pit.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0007", 10,
+                Set.of(
+                        new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2),
+                        new EquipmentRequest(EquipmentType.BALL_PIT.getUUID(), 3)
+                )
+        ));
+
+        // Fill the play site and verify the occupancy follows.
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, playgroundService.getPlaySite(playSiteUUID).occupiedCapacity());
+            assertFalse(playgroundService.getPlaySite(playSiteUUID).isPlaySiteFull());
+            playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid" + i, 5));
+        }
+
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(5, playSite.capacity());
+        assertEquals(5, playSite.occupiedCapacity());
+        assertTrue(playSite.isPlaySiteFull());
+    }
+
     @Test
     void testAddKidsToPlaySite_ExceedCapacity_NotAddedToPlaySite() {
         // Create a play site with a capacity of 2
@@ -142,7 +327,7 @@ public class PlaygroundServiceTest {
             playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
         });
 
-        Mockito.when(random.nextInt(Mockito.anyInt())).thenReturn(0); // 50% chance of not accepting waiting
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
         // Attempt to add another kid to the queue play site, expected true
         KidRequest kidRequest = new KidRequest("Kid3", 6);
         Kid kid = playgroundService.enqueueKid(playSiteUUID, kidRequest);
@@ -165,7 +350,7 @@ public class PlaygroundServiceTest {
         assertThrows(PlaySiteFullException.class, () -> {
             playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
         });
-        Mockito.when(random.nextInt(Mockito.anyInt())).thenReturn(1); // 50% chance of not accepting waiting
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(false);
         // Attempt to add another kid to the full play site, will reject with false
         assertThrows(EnqueueRequestRejected.class, () -> {
             KidRequest kidRequest = new KidRequest("Kid3", 6);
@@ -174,6 +359,554 @@ public class PlaygroundServiceTest {
         // Verify that the second kid is added to the queue
     }
 
+    @Test
+    void testAdmissionController_DecidesFromQueueLoadOfPlaySite() {
+        // Create a play site with a capacity of 1 and a queue of at most 5 kids.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-load", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                )), 5
+        ));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+        playgroundService.addKidsToPlaySite(playSiteUUID, List.of(new KidRequest("Kid3", 5), new KidRequest("Kid4", 5)));
+
+        // Verify every decision saw the queue as it was at that moment.
+        ArgumentCaptor<QueueLoad> loads = ArgumentCaptor.forClass(QueueLoad.class);
+        Mockito.verify(admissionController, Mockito.times(3)).acceptsWaiting(loads.capture());
+        assertEquals(List.of(0, 1, 2), loads.getAllValues().stream().map(QueueLoad::queued).toList());
+        assertTrue(loads.getAllValues().stream().allMatch(load -> load.arriving() == 1 && load.maxQueueLength() == 5));
+        // No kid has left the play site yet, so there is no estimate.
+        assertEquals(Duration.ZERO, loads.getValue().estimatedWait());
+
+        // A group asks for all its seats in the queue at once.
+        playgroundService.reserveGroup(playSiteUUID, List.of(new KidRequest("Kid5", 5)));
+        Mockito.verify(admissionController, Mockito.times(4)).acceptsWaiting(loads.capture());
+        assertEquals(3, loads.getValue().queued());
+
+        // Once kids left, the wait is estimated from the interval between them.
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        playgroundService.removeKidFromPlaySite(playSiteUUID, playSite.kidsOnSite().get(0).ticketNumber());
+        playSite = playgroundService.getPlaySite(playSiteUUID);
+        playgroundService.removeKidFromPlaySite(playSiteUUID, playSite.kidsOnSite().get(0).ticketNumber());
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid6", 5));
+        Mockito.verify(admissionController, Mockito.times(5)).acceptsWaiting(loads.capture());
+        assertTrue(loads.getValue().estimatedWait().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void testBoundedQueue_RejectsWhenFullWithRetryAfterFromDepartures() {
+        // Create a play site with a capacity of 1 and a queue of at most 2 kids.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-bounded", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                )), 2
+        ));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid3", 5));
+
+        // The queue is full, no kid has left yet so there is no retry hint.
+        AdmissionResult full = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid4", 5));
+        assertEquals(RejectionReason.QUEUE_FULL, full.reason());
+        assertNull(full.retryAfter());
+        QueueFullException exception = assertThrows(QueueFullException.class,
+                () -> playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid4", 5)));
+        assertEquals(0, exception.getStackTrace().length);
+        assertThrows(QueueFullException.class, () -> playgroundService.reserveGroup(playSiteUUID, List.of(new KidRequest("Kid4", 5))));
+        assertEquals(RejectionReason.QUEUE_FULL, playgroundService.addKidsToPlaySite(playSiteUUID,
+                List.of(new KidRequest("Kid4", 5))).get(0).reason());
+        // The admission controller is not asked once the queue is full.
+        Mockito.verify(admissionController, Mockito.times(2)).acceptsWaiting(Mockito.any());
+
+        // Two kids leave and promote the queue, which fills up again.
+        for (int i = 0; i < 2; i++) {
+            UUID playing = playgroundService.getPlaySite(playSiteUUID).kidsOnSite().get(0).ticketNumber();
+            playgroundService.removeKidFromPlaySite(playSiteUUID, playing);
+        }
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid5", 5));
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid6", 5));
+        full = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid7", 5));
+        assertEquals(RejectionReason.QUEUE_FULL, full.reason());
+        assertTrue(full.retryAfter() >= 1);
+        assertEquals(2, playgroundService.getPlaySiteSummary(playSiteUUID).queued());
+        assertEquals(2, playgroundService.getPlaySiteSummary(playSiteUUID).maxQueueLength());
+    }
+
+    @Test
+    void testLongQueue_KeepsOrderAcrossRemovalsFromTheMiddle() {
+        // Create a play site with a capacity of 1.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-long", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                ))
+        ));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid", 5));
+
+        // Queue many kids, then remove all but every third kid, mostly from the middle.
+        List<Kid> queued = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            queued.add(playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid" + i, 5)));
+        }
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < queued.size(); i++) {
+            if (i % 3 == 0) {
+                expected.add(queued.get(i).ticketNumber());
+            } else {
+                assertTrue(playgroundService.dequeueKid(playSiteUUID, queued.get(i).ticketNumber()));
+            }
+        }
+        // Queue more kids behind the remaining ones.
+        for (int i = 0; i < 50; i++) {
+            expected.add(playgroundService.enqueueKid(playSiteUUID, new KidRequest("Late" + i, 5)).ticketNumber());
+        }
+
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(expected, playSite.kidQueue().stream().map(Kid::ticketNumber).toList());
+        assertEquals(expected.get(120), playgroundService.getQueueKid(playSiteUUID, expected.get(120)).ticketNumber());
+
+        // Kids leaving promote the queue in order.
+        for (UUID next : expected.subList(0, 20)) {
+            UUID playing = playgroundService.getPlaySite(playSiteUUID).kidsOnSite().get(0).ticketNumber();
+            playgroundService.removeKidFromPlaySite(playSiteUUID, playing);
+            assertEquals(next, playgroundService.getPlaySite(playSiteUUID).kidsOnSite().get(0).ticketNumber());
+        }
+        assertEquals(expected.size() - 20, playgroundService.getPlaySiteSummary(playSiteUUID).queued());
+    }
+
+    @Test
+    void testTryAddKidAndTryEnqueueKid_RejectionsAreResults() {
+        // Create a play site with a capacity of 1
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-results", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                ))
+        ));
+
+        assertEquals(AdmissionStatus.ADMITTED, playgroundService.tryAddKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5)).status());
+        AdmissionResult full = playgroundService.tryAddKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
+        assertEquals(AdmissionStatus.REJECTED, full.status());
+        assertEquals(RejectionReason.PLAY_SITE_FULL, full.reason());
+        assertEquals("Kid2", full.name());
+        assertNull(full.kid());
+
+        // Too old kids are rejected before the coin is flipped.
+        assertEquals(RejectionReason.AGE_RESTRICTION, playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid3", 12)).reason());
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(false, true);
+        assertEquals(RejectionReason.ENQUEUE_REJECTED, playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid4", 6)).reason());
+        AdmissionResult queued = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid5", 6));
+        assertEquals(AdmissionStatus.QUEUED, queued.status());
+        assertEquals(StatusType.WAITING, queued.kid().status());
+
+        // Rejected kids are not counted as visitors.
+        assertEquals(2, playgroundService.getTotalVisitorCount());
+
+        // The exceptions of the throwing variants carry the reason but no stack trace.
+        PlaySiteFullException exception = assertThrows(PlaySiteFullException.class,
+                () -> playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid6", 5)));
+        assertEquals(RejectionReason.PLAY_SITE_FULL, exception.getReason());
+        assertEquals(0, exception.getStackTrace().length);
+        assertTrue(exception.getMessage().contains("Kid6"));
+    }
+
+    @Test
+    void testAddKidsToPlaySite_Batch_AdmitsQueuesAndRejectsInRequestOrder() {
+        // Create a play site with a capacity of 2
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-batch", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        ));
+
+        // The first overflowing kid accepts waiting, the second does not.
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true, false);
+        List<AdmissionResult> results = playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 12),
+                new KidRequest("Kid3", 6),
+                new KidRequest("Kid4", 7),
+                new KidRequest("Kid5", 8)
+        ));
+
+        // Verify the outcome of every kid, in request order.
+        assertEquals(5, results.size());
+        assertEquals(AdmissionStatus.ADMITTED, results.get(0).status());
+        assertEquals(AdmissionStatus.REJECTED, results.get(1).status());
+        assertEquals(RejectionReason.AGE_RESTRICTION, results.get(1).reason());
+        assertNull(results.get(1).kid());
+        assertEquals(AdmissionStatus.ADMITTED, results.get(2).status());
+        assertEquals(AdmissionStatus.QUEUED, results.get(3).status());
+        assertEquals(StatusType.WAITING, results.get(3).kid().status());
+        assertEquals(AdmissionStatus.REJECTED, results.get(4).status());
+        assertEquals(RejectionReason.ENQUEUE_REJECTED, results.get(4).reason());
+
+        // Verify the play site, the ticket directory and the visitor count follow.
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(List.of("Kid1", "Kid3"), playSite.kidsOnSite().stream().map(Kid::name).toList());
+        assertEquals("Kid4", playSite.kidQueue().peek().name());
+        assertEquals(results.get(3).kid(), playgroundService.getKid(results.get(3).kid().ticketNumber()));
+        assertEquals(3, playgroundService.getTotalVisitorCount());
+    }
+
+    @Test
+    void testAddKidsToPlaySite_Batch_NoEquipment_AllRejected() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-batch-empty", 10, Set.of()));
+
+        List<AdmissionResult> results = playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 6)
+        ));
+
+        results.forEach(result -> assertEquals(RejectionReason.NO_EQUIPMENT, result.reason()));
+        assertEquals(0, playgroundService.getTotalVisitorCount());
+    }
+
+    @Test
+    void testAddKidsToPlaySite_BatchBeyondMaximum_RejectedBeforeAdmission() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-batch-limit", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 100))));
+        List<KidRequest> kids = new ArrayList<>();
+        for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+            kids.add(new KidRequest("Kid" + i, 5));
+        }
+
+        // A batch of the maximum size is admitted, one kid more is turned away as a whole.
+        assertEquals(MAX_BATCH_SIZE, playgroundService.addKidsToPlaySite(playSiteUUID, kids).size());
+        kids.add(new KidRequest("Kid" + MAX_BATCH_SIZE, 5));
+        assertThrows(BatchTooLargeException.class, () -> playgroundService.addKidsToPlaySite(playSiteUUID, kids));
+        assertThrows(BatchTooLargeException.class, () -> playgroundService.reserveGroup(playSiteUUID, kids));
+        assertEquals(MAX_BATCH_SIZE, playgroundService.getTotalVisitorCount());
+    }
+
+    @Test
+    void testReserveGroup_EnoughSeats_AllPlaying() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-group", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 4
+                ))
+        ));
+
+        GroupReservation reservation = playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 6),
+                new KidRequest("Kid3", 7)
+        ));
+
+        // Verify that the whole group plays under one group id.
+        assertNotNull(reservation.groupId());
+        assertEquals(StatusType.PLAYING, reservation.status());
+        assertEquals(3, playgroundService.getPlaySite(playSiteUUID).occupiedCapacity());
+        assertEquals(reservation.kids(), playgroundService.getGroupKids(reservation.groupId()));
+        assertEquals(3, playgroundService.getTotalVisitorCount());
+    }
+
+    @Test
+    void testReserveGroup_NotEnoughSeats_WaitsAsContiguousBlock() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-group-queue", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 3
+                ))
+        ));
+        Kid playing = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
+
+        // One seat is free, a group of two waits as a whole between two single kids.
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
+        GroupReservation reservation = playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Group1", 5),
+                new KidRequest("Group2", 6)
+        ));
+        assertEquals(StatusType.WAITING, reservation.status());
+        assertEquals(2, playgroundService.getPlaySite(playSiteUUID).occupiedCapacity());
+        assertEquals(List.of("Group1", "Group2"),
+                playgroundService.getPlaySite(playSiteUUID).kidQueue().stream().map(Kid::name).toList());
+
+        // The next enqueued kid lets the queue in on the free seat, in queue order.
+        playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid3", 5));
+        assertEquals(List.of("Group2", "Kid3"),
+                playgroundService.getPlaySite(playSiteUUID).kidQueue().stream().map(Kid::name).toList());
+
+        // The freed seat is taken in queue order, the group still known under its group id.
+        playgroundService.removeKidFromPlaySite(playSiteUUID, playing.ticketNumber());
+        assertEquals(List.of("Kid2", "Group1", "Group2"),
+                playgroundService.getPlaySite(playSiteUUID).kidsOnSite().stream().map(Kid::name).toList());
+        assertEquals(List.of("Kid3"),
+                playgroundService.getPlaySite(playSiteUUID).kidQueue().stream().map(Kid::name).toList());
+        assertEquals(2, playgroundService.getGroupKids(reservation.groupId()).size());
+    }
+
+    @Test
+    void testReserveGroup_AllOrNothing_RejectedGroupLeavesNoKids() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-group-reject", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        ));
+
+        // One kid of the group is too old.
+        assertThrows(AgeRestrictionException.class, () -> playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 12)
+        )));
+        // The group is larger than the play site.
+        PlaySiteFullException tooLarge = assertThrows(PlaySiteFullException.class, () -> playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 6),
+                new KidRequest("Kid3", 7)
+        )));
+        assertEquals(String.format("Group of 3 kids does not fit in play site '%s' with capacity 2.", playSiteUUID), tooLarge.getMessage());
+        assertEquals(0, tooLarge.getStackTrace().length);
+        // The group does not accept waiting.
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid0", 5));
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(false);
+        assertThrows(EnqueueRequestRejected.class, () -> playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 6)
+        )));
+
+        assertEquals(1, playgroundService.getPlaySite(playSiteUUID).occupiedCapacity());
+        assertTrue(playgroundService.getPlaySite(playSiteUUID).kidQueue().isEmpty());
+        assertEquals(1, playgroundService.getTotalOnSite());
+    }
+
+    @Test
+    void testRemoveGroup_RemovesPlayingAndWaitingKids() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-group-remove", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 2
+                ))
+        ));
+        GroupReservation playingGroup = playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 6)
+        ));
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
+        GroupReservation waitingGroup = playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid3", 5),
+                new KidRequest("Kid4", 6)
+        ));
+
+        // Removing the playing group promotes the waiting group.
+        assertTrue(playgroundService.removeGroup(playingGroup.groupId()));
+        assertThrows(NotFoundException.class, () -> playgroundService.getGroupKids(playingGroup.groupId()));
+        assertFalse(playgroundService.removeGroup(playingGroup.groupId()));
+        assertEquals(List.of("Kid3", "Kid4"),
+                playgroundService.getPlaySite(playSiteUUID).kidsOnSite().stream().map(Kid::name).toList());
+
+        // The group is forgotten once its last kid leaves on its own.
+        waitingGroup.kids().forEach(kid -> playgroundService.removeKid(kid.ticketNumber()));
+        assertFalse(playgroundService.removeGroup(waitingGroup.groupId()));
+        assertEquals(0, playgroundService.getTotalOnSite());
+    }
+
+    @Test
+    void testRemoveGroup_PromotesAsManyWaitingKidsAsFitInOnePass() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 3))));
+        GroupReservation playingGroup = playgroundService.reserveGroup(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 5),
+                new KidRequest("Kid3", 5)
+        ));
+        List<Kid> waiting = new ArrayList<>();
+        for (int i = 4; i <= 7; i++) {
+            waiting.add(playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid" + i, 5)));
+        }
+        Mockito.doReturn(true).when(eventPublisher).hasSubscribers();
+        ArgumentCaptor<PlaySiteChange> changes = ArgumentCaptor.forClass(PlaySiteChange.class);
+
+        assertTrue(playgroundService.removeGroup(playingGroup.groupId()));
+
+        // The three freed seats are taken by the head of the queue, in order and now playing.
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(List.of("Kid4", "Kid5", "Kid6"), playSite.kidsOnSite().stream().map(Kid::name).toList());
+        playSite.kidsOnSite().forEach(kid -> assertEquals(StatusType.PLAYING, kid.status()));
+        assertEquals(StatusType.PLAYING, playgroundService.getKid(waiting.get(0).ticketNumber()).status());
+        assertEquals(StatusType.WAITING, playgroundService.getKid(waiting.get(3).ticketNumber()).status());
+        assertEquals(1, playgroundService.getTotalQueued());
+
+        // Three removals, then a single change reporting all promotions.
+        Mockito.verify(eventPublisher, Mockito.times(4)).publish(changes.capture());
+        PlaySiteChange promoted = changes.getAllValues().get(3);
+        assertEquals(3, promoted.promoted());
+        assertEquals(3, promoted.occupiedCapacity());
+        assertEquals(1, promoted.queued());
+    }
+
+    @Test
+    void testExpiredSessions_PromoteWaitingKidsWithSessionsOfTheirOwn() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2)), null, Duration.ofMinutes(30)));
+        playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 5),
+                new KidRequest("Kid3", 5),
+                new KidRequest("Kid4", 5),
+                new KidRequest("Kid5", 5)
+        ));
+
+        // Both sessions end on the same tick and both seats are taken by the queue.
+        advanceClock(Duration.ofMinutes(30));
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(List.of("Kid3", "Kid4"), playSite.kidsOnSite().stream().map(Kid::name).toList());
+        playSite.kidsOnSite().forEach(kid -> assertEquals(StatusType.PLAYING, kid.status()));
+        assertEquals(List.of("Kid5"), playSite.kidQueue().stream().map(Kid::name).toList());
+
+        advanceClock(Duration.ofMinutes(30));
+        assertEquals(List.of("Kid5"), playgroundService.getPlaySite(playSiteUUID).kidsOnSite().stream().map(Kid::name).toList());
+        assertEquals(0, playgroundService.getTotalQueued());
+    }
+
+    @Test
+    void testUpdateEquipments_MoreCapacity_PromotesWaitingKidsAndSwapsStrategy() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1))));
+        List<AdmissionResult> results = playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 5),
+                new KidRequest("Kid3", 5),
+                new KidRequest("Kid4", 5)
+        ));
+        assertEquals(3, playgroundService.getTotalQueued());
+
+        // Double swings instead of the slide: two more seats, taken by the head of the queue.
+        PlaySiteSummary summary = playgroundService.updateEquipments(playSiteUUID,
+                Set.of(new EquipmentRequest(EquipmentType.DOUBLE_SWINGS.getUUID(), 3)));
+
+        assertEquals(3, summary.capacity());
+        assertEquals(3, summary.occupiedCapacity());
+        assertEquals(1, summary.queued());
+        assertEquals(100.0, summary.utilization());
+        assertEquals(StatusType.PLAYING, playgroundService.getKid(results.get(2).kid().ticketNumber()).status());
+        assertEquals(List.of("Kid4"), playgroundService.getPlaySite(playSiteUUID).kidQueue().stream().map(Kid::name).toList());
+        assertEquals(3, parkOccupancy.totalCapacity());
+        assertEquals(3L, parkOccupancy.toResponse().capacityByEquipment().get(EquipmentType.DOUBLE_SWINGS));
+        assertEquals(0L, parkOccupancy.toResponse().capacityByEquipment().get(EquipmentType.SLIDE));
+
+        // Double swings count as used only when full, two of three kids count as none.
+        playgroundService.removeKid(results.get(0).kid().ticketNumber());
+        playgroundService.removeKid(results.get(3).kid().ticketNumber());
+        assertEquals(0.0, playgroundService.getPlaySiteUtilization(playSiteUUID));
+    }
+
+    @Test
+    void testUpdateEquipments_LessCapacity_MovesLatestKidsBackToHeadOfQueue() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2),
+                        new EquipmentRequest(EquipmentType.CAROUSEL.getUUID(), 2)), null, Duration.ofMinutes(30)));
+        List<AdmissionResult> results = playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 5),
+                new KidRequest("Kid3", 5),
+                new KidRequest("Kid4", 5),
+                new KidRequest("Kid5", 5)
+        ));
+        assertEquals(4, sessionTimer.pending());
+
+        // Without the carousel only the two kids admitted first keep playing.
+        PlaySiteSummary summary = playgroundService.updateEquipments(playSiteUUID,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2)));
+
+        assertEquals(2, summary.capacity());
+        assertEquals(2, summary.occupiedCapacity());
+        assertEquals(3, summary.queued());
+        PlaySite playSite = playgroundService.getPlaySite(playSiteUUID);
+        assertEquals(List.of("Kid1", "Kid2"), playSite.kidsOnSite().stream().map(Kid::name).toList());
+        assertEquals(List.of("Kid3", "Kid4", "Kid5"), playSite.kidQueue().stream().map(Kid::name).toList());
+        playSite.kidQueue().forEach(kid -> assertEquals(StatusType.WAITING, kid.status()));
+        assertEquals(StatusType.WAITING, playgroundService.getKid(results.get(2).kid().ticketNumber()).status());
+        assertEquals(2, sessionTimer.pending());
+        assertEquals(2, playgroundService.getTotalOnSite());
+        assertEquals(3, playgroundService.getTotalQueued());
+
+        // A freed seat goes to the first kid moved back.
+        playgroundService.removeKid(results.get(0).kid().ticketNumber());
+        assertEquals(List.of("Kid2", "Kid3"),
+                playgroundService.getPlaySite(playSiteUUID).kidsOnSite().stream().map(Kid::name).toList());
+    }
+
+    @Test
+    void testUpdateEquipments_DemotionBeyondMaxQueueLength_QueueFullUntilDrainedBelowMaximum() {
+        // A queue of at most one kid, already full.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2),
+                        new EquipmentRequest(EquipmentType.CAROUSEL.getUUID(), 2)), 1));
+        List<AdmissionResult> results = playgroundService.addKidsToPlaySite(playSiteUUID, List.of(
+                new KidRequest("Kid1", 5),
+                new KidRequest("Kid2", 5),
+                new KidRequest("Kid3", 5),
+                new KidRequest("Kid4", 5),
+                new KidRequest("Kid5", 5)
+        ));
+
+        // Two kids are moved back to the queue regardless of its maximum.
+        PlaySiteSummary summary = playgroundService.updateEquipments(playSiteUUID,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2)));
+        assertEquals(3, summary.queued());
+        assertEquals(RejectionReason.QUEUE_FULL, playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid6", 5)).reason());
+
+        // Still full while the queue drains down to the maximum.
+        playgroundService.removeKid(results.get(4).kid().ticketNumber());
+        assertEquals(RejectionReason.QUEUE_FULL, playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid6", 5)).reason());
+        playgroundService.removeKid(results.get(0).kid().ticketNumber());
+        assertEquals(1, playgroundService.getPlaySiteSummary(playSiteUUID).queued());
+        assertEquals(RejectionReason.QUEUE_FULL, playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid6", 5)).reason());
+
+        // Below the maximum kids queue again.
+        playgroundService.removeKid(results.get(3).kid().ticketNumber());
+        AdmissionResult queued = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid6", 5));
+        assertEquals(AdmissionStatus.QUEUED, queued.status());
+        assertEquals(1, playgroundService.getPlaySiteSummary(playSiteUUID).queued());
+    }
+
+    @Test
+    void testUpdateEquipments_StaleExpiryOfEarlierSessionKeepsPromotedKidPlaying() {
+        // Remember every session with its expiry task.
+        List<TimingWheel.Timeout> sessions = new ArrayList<>();
+        List<Consumer<TimingWheel.Timeout>> expiries = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            TimingWheel.Timeout session = (TimingWheel.Timeout) invocation.callRealMethod();
+            sessions.add(session);
+            expiries.add(invocation.getArgument(1));
+            return session;
+        }).when(sessionTimer).schedule(Mockito.any(Duration.class), Mockito.<Consumer<TimingWheel.Timeout>>any());
+
+        Set<EquipmentRequest> equipments = Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1),
+                new EquipmentRequest(EquipmentType.CAROUSEL.getUUID(), 1));
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                equipments, null, Duration.ofMinutes(30)));
+        playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        Kid kid2 = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
+
+        // The second kid is moved back to the queue and promoted again in a new session.
+        playgroundService.updateEquipments(playSiteUUID, Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)));
+        playgroundService.updateEquipments(playSiteUUID, equipments);
+        assertEquals(3, sessions.size());
+
+        // The first session of the kid expires as if its cancellation lost the race.
+        expiries.get(1).accept(sessions.get(1));
+        assertEquals(kid2.ticketNumber(), playgroundService.getPlayingKid(playSiteUUID, kid2.ticketNumber()).ticketNumber());
+
+        // The current session still ends it.
+        expiries.get(2).accept(sessions.get(2));
+        assertThrows(NotFoundException.class, () -> playgroundService.getKid(kid2.ticketNumber()));
+    }
+
+    @Test
+    void testUpdateEquipments_InvalidEquipments_PlaySiteUnchanged() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+
+        assertThrows(InvalidRequestException.class, () -> playgroundService.updateEquipments(playSiteUUID, Set.of()));
+        assertThrows(InvalidRequestException.class, () -> playgroundService.updateEquipments(playSiteUUID,
+                Set.of(new EquipmentRequest(UUID.randomUUID(), 2))));
+        assertThrows(NotFoundException.class, () -> playgroundService.updateEquipments(UUID.randomUUID(),
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+        assertEquals(2, playgroundService.getPlaySiteSummary(playSiteUUID).capacity());
+    }
+
     @Test
     public void testRemoveKidToFullPlaySite_MoveKidToPlaySiteFromQueue() {
         // Create a play site with a capacity of 1
@@ -205,6 +938,73 @@ public class PlaygroundServiceTest {
         assertEquals(kidRequest.name(), playgroundService.getPlaySite(playSiteUUID).kidsOnSite().get(0).name());
     }
 
+    @Test
+    void testMaxPlayDuration_ExpiredSessionPromotesNextKid() {
+        // A play site with a capacity of 1 where kids play for 30 minutes at most.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)), null, Duration.ofMinutes(30)));
+
+        Kid kid1 = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        advanceClock(Duration.ofMinutes(10));
+        Kid kid2 = playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+
+        // Still playing just before the session ends.
+        advanceClock(Duration.ofMinutes(20).minusSeconds(1));
+        assertEquals(kid1.ticketNumber(), playgroundService.getPlayingKid(playSiteUUID, kid1.ticketNumber()).ticketNumber());
+
+        // The first kid leaves on its own and the waiting kid gets a session of its own.
+        advanceClock(Duration.ofSeconds(1));
+        assertThrows(NotFoundException.class, () -> playgroundService.getKid(kid1.ticketNumber()));
+        assertEquals(kid2.ticketNumber(), playgroundService.getPlayingKid(playSiteUUID, kid2.ticketNumber()).ticketNumber());
+        assertEquals(1, sessionTimer.pending());
+
+        advanceClock(Duration.ofMinutes(30));
+        assertEquals(0, playgroundService.getPlaySiteSummary(playSiteUUID).occupiedCapacity());
+        assertEquals(0, sessionTimer.pending());
+    }
+
+    @Test
+    void testMaxPlayDuration_RemovedKidCancelsSession() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0001", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2)), null, Duration.ofMinutes(30)));
+        // Without a maximum play duration nobody is timed.
+        UUID unlimitedUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0002", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2))));
+
+        Kid kid1 = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        Kid kid2 = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 5));
+        Kid kid3 = playgroundService.addKidToPlaySite(unlimitedUUID, new KidRequest("Kid3", 5));
+        assertEquals(2, sessionTimer.pending());
+
+        assertTrue(playgroundService.removeKid(kid1.ticketNumber()));
+        assertEquals(1, sessionTimer.pending());
+
+        advanceClock(Duration.ofHours(1));
+        assertThrows(NotFoundException.class, () -> playgroundService.getKid(kid2.ticketNumber()));
+        assertEquals(kid3.ticketNumber(), playgroundService.getKid(kid3.ticketNumber()).ticketNumber());
+        assertEquals(0, sessionTimer.pending());
+    }
+
+    @Test
+    void testMaxPlayDuration_MustBePositive() {
+        List<PlaySiteProvisioningResult> results = playgroundService.createPlaySites(List.of(
+                new PlaySiteRequest("play-site-0001", 10,
+                        Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)), null, Duration.ZERO)));
+
+        assertNull(results.get(0).id());
+        assertEquals(List.of("max_play_duration: must be positive"), results.get(0).errors());
+
+        // A single play site is checked the same way.
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> playgroundService.createPlaySite(
+                new PlaySiteRequest("play-site-0001", 10,
+                        Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)), null, Duration.ofMinutes(-5))));
+        assertEquals("max_play_duration: must be positive", exception.getMessage());
+        assertThrows(InvalidRequestException.class, () -> playgroundService.createPlaySite(
+                new PlaySiteRequest("play-site-0001", 10,
+                        Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 1)), -1)));
+        assertTrue(playgroundService.getPlaySiteSummaries().isEmpty());
+    }
+
     @Test
     void testRemoveKidFromPlaySite_KidRemovedFromPlaySite() {
         // Create a play site and add a kid to it.
@@ -258,18 +1058,74 @@ public class PlaygroundServiceTest {
     }
 
     @Test
-    void testUtilizationCalculation_WhenOnlyDoubleSwings() {
-        // Create a play site with only double swings.
-        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0010", 10,
+    public void testDequeueKid_FromMiddleOfQueue_KeepsQueueOrder() {
+        // Create a full play site with three kids waiting
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0005", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.DOUBLE_SWINGS.getUUID(), 1
+                ))
+        ));
+        Kid playing = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        Kid first = playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+        Kid middle = playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid3", 5));
+        Kid last = playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid4", 5));
+
+        // Remove the kid from the middle of the queue
+        assertTrue(playgroundService.dequeueKid(playSiteUUID, middle.ticketNumber()));
+        assertFalse(playgroundService.dequeueKid(playSiteUUID, middle.ticketNumber()));
+        assertThrows(NotFoundException.class, () -> playgroundService.getQueueKid(playSiteUUID, middle.ticketNumber()));
+
+        // Verify the remaining kids are still found by ticket and keep their order
+        assertEquals(first, playgroundService.getQueueKid(playSiteUUID, first.ticketNumber()));
+        assertEquals(last, playgroundService.getQueueKid(playSiteUUID, last.ticketNumber()));
+        assertEquals(List.of(first, last), new ArrayList<>(playgroundService.getPlaySite(playSiteUUID).kidQueue()));
+
+        // Removing the playing kid promotes the head of the queue
+        assertTrue(playgroundService.removeKidFromPlaySite(playSiteUUID, playing.ticketNumber()));
+        assertEquals(first.ticketNumber(), playgroundService.getPlayingKid(playSiteUUID, first.ticketNumber()).ticketNumber());
+        assertEquals(List.of(last), new ArrayList<>(playgroundService.getPlaySite(playSiteUUID).kidQueue()));
+    }
+
+    @Test
+    void testGetAndRemoveKidByTicketNumber_WithoutPlaySiteId() {
+        // Create a full play site with one kid waiting
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0006", 10,
                 Set.of(new EquipmentRequest(
                         EquipmentType.DOUBLE_SWINGS.getUUID(), 1
                 ))
         ));
+        Kid playing = playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
+        Kid waiting = playgroundService.enqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+
+        // Resolve both kids by ticket number only
+        assertEquals(playing, playgroundService.getKid(playing.ticketNumber()));
+        assertEquals(waiting, playgroundService.getKid(waiting.ticketNumber()));
+
+        // Removing the playing kid promotes the waiting kid, which stays resolvable
+        assertTrue(playgroundService.removeKid(playing.ticketNumber()));
+        assertThrows(NotFoundException.class, () -> playgroundService.getKid(playing.ticketNumber()));
+        assertEquals(waiting.ticketNumber(), playgroundService.getPlayingKid(playSiteUUID, waiting.ticketNumber()).ticketNumber());
+        assertEquals(waiting.ticketNumber(), playgroundService.getKid(waiting.ticketNumber()).ticketNumber());
+
+        // Unknown tickets are not removed
+        assertTrue(playgroundService.removeKid(waiting.ticketNumber()));
+        assertFalse(playgroundService.removeKid(waiting.ticketNumber()));
+        assertFalse(playgroundService.removeKid(UUID.randomUUID()));
+    }
 
+    @Test
+    void testUtilizationCalculation_WhenOnlyDoubleSwings() {
         // Create a play site utilization calculator for double swings.
         PlaySiteUtilization utilization = new DoubleSwingsPlaySiteUtilization();
-        // Set the play site utilization calculator on the playground service.
-        Mockito.when(playSiteUtilizationFactory.getCalculator(Mockito.anySet())).thenReturn(utilization);
+        // Set the play site utilization calculator on the playground service, it is resolved on creation.
+        Mockito.doReturn(utilization).when(playSiteUtilizationFactory).getCalculator(Mockito.anySet());
+
+        // Create a play site with only double swings.
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0010", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.DOUBLE_SWINGS.getUUID(), 1
+                ))
+        ));
 
 
         // Add a kid to the play site.
@@ -297,6 +1153,9 @@ public class PlaygroundServiceTest {
 
     @Test
     public void testUtilizationCalculation_WhenDefault() {
+        // Mock the PlaySiteUtilizationFactory to return a DefaultPlaySiteUtilization object
+        Mockito.doReturn(new DefaultPlaySiteUtilization()).when(playSiteUtilizationFactory).getCalculator(Mockito.anySet());
+
         // Create a play site with different combinations of equipment
         UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0011", 10,
                 Set.of(new EquipmentRequest(
@@ -304,9 +1163,6 @@ public class PlaygroundServiceTest {
                 ))
         ));
 
-        // Mock the PlaySiteUtilizationFactory to return a DefaultPlaySiteUtilization object
-        Mockito.when(playSiteUtilizationFactory.getCalculator(Mockito.anySet())).thenReturn(new DefaultPlaySiteUtilization());
-
         // Add a kid to the play site
         playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
 
@@ -320,6 +1176,9 @@ public class PlaygroundServiceTest {
 
     @Test
     public void testUtilizationCalculation_WhenEquipmentIsFull() {
+        // set mock default utilization
+        Mockito.doReturn(new DefaultPlaySiteUtilization()).when(playSiteUtilizationFactory).getCalculator(Mockito.anySet());
+
         // Create a play site with different combinations of equipment
         UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0011", 10,
                 Set.of(new EquipmentRequest(
@@ -331,9 +1190,6 @@ public class PlaygroundServiceTest {
         playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid1", 5));
         playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 6));
         playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid3", 7));
-
-        // set mock default utilization
-        Mockito.when(playSiteUtilizationFactory.getCalculator(Mockito.anySet())).thenReturn(new DefaultPlaySiteUtilization());
         // Get the utilization of the play site
         var utilization = playgroundService.getPlaySiteUtilization(playSiteUUID);
 
@@ -344,6 +1200,9 @@ public class PlaygroundServiceTest {
 
     @Test
     public void testUtilizationCalculation_WhenBothType() {
+        PlaySiteUtilization utilization = new DefaultPlaySiteUtilization();
+        Mockito.doReturn(utilization).when(playSiteUtilizationFactory).getCalculator(Mockito.anySet());
+
         // Create a play site with different combinations of equipment
         UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0012", 10,
                 Set.of(new EquipmentRequest(
@@ -359,14 +1218,68 @@ public class PlaygroundServiceTest {
         // add kid into play site
         playgroundService.addKidToPlaySite(playSiteUUID, new KidRequest("Kid2", 8));
 
-        PlaySiteUtilization utilization = new DefaultPlaySiteUtilization();
-
         // calculate utilization
-        Mockito.when(playSiteUtilizationFactory.getCalculator(Mockito.anySet())).thenReturn(utilization);
         var Utilization = playgroundService.getPlaySiteUtilization(playSiteUUID);
         assertEquals(100, Utilization);
     }
 
+    @Test
+    void testUtilization_MaintainedOnAdmitAndRemove_ForAllPlaySites() {
+        // Create a double swings play site and a slide play site, resolved by the real factory.
+        UUID swingsUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0014", 10,
+                Set.of(new EquipmentRequest(EquipmentType.DOUBLE_SWINGS.getUUID(), 2))));
+        UUID slideUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0015", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 4))));
+
+        Kid swingsKid = playgroundService.addKidToPlaySite(swingsUUID, new KidRequest("Kid1", 5));
+        playgroundService.addKidToPlaySite(slideUUID, new KidRequest("Kid2", 5));
+        assertEquals(0.0, playgroundService.getPlaySiteUtilization(swingsUUID));
+        assertEquals(25.0, playgroundService.getPlaySiteUtilization(slideUUID));
+
+        playgroundService.addKidToPlaySite(swingsUUID, new KidRequest("Kid3", 5));
+        assertEquals(100.0, playgroundService.getPlaySiteUtilization(swingsUUID));
+
+        // All play sites are returned from the maintained state in one call.
+        Map<UUID, Double> utilizations = new HashMap<>();
+        playgroundService.getPlaySitesUtilization().forEach(response -> utilizations.put(response.id(), response.utilization()));
+        assertEquals(Map.of(swingsUUID, 100.0, slideUUID, 25.0), utilizations);
+
+        // Removing a kid updates the utilization.
+        playgroundService.removeKidFromPlaySite(swingsUUID, swingsKid.ticketNumber());
+        assertEquals(0.0, playgroundService.getPlaySiteUtilization(swingsUUID));
+    }
+
+    @Test
+    void testOccupancy_MaintainedAcrossPlaySites() {
+        // Create two play sites with a capacity of 1 and 3.
+        UUID swingsUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0016", 10,
+                Set.of(new EquipmentRequest(EquipmentType.DOUBLE_SWINGS.getUUID(), 1))));
+        UUID mixedUUID = playgroundService.createPlaySite(new PlaySiteRequest("play-site-0017", 10,
+                Set.of(new EquipmentRequest(EquipmentType.SLIDE.getUUID(), 2),
+                        new EquipmentRequest(EquipmentType.DOUBLE_SWINGS.getUUID(), 1))));
+
+        // Fill the swings and queue two kids, add one kid to the mixed play site.
+        Kid playing = playgroundService.addKidToPlaySite(swingsUUID, new KidRequest("Kid1", 5));
+        playgroundService.enqueueKid(swingsUUID, new KidRequest("Kid2", 5));
+        Kid waiting = playgroundService.enqueueKid(swingsUUID, new KidRequest("Kid3", 5));
+        playgroundService.addKidToPlaySite(mixedUUID, new KidRequest("Kid4", 5));
+
+        OccupancyResponse occupancy = playgroundService.getOccupancy();
+        assertEquals(2, occupancy.totalOnSite());
+        assertEquals(2, occupancy.totalQueued());
+        assertEquals(4, occupancy.totalCapacity());
+        assertEquals(2, occupancy.freeCapacity());
+        assertEquals(2, occupancy.capacityByEquipment().get(EquipmentType.DOUBLE_SWINGS));
+        assertEquals(2, occupancy.capacityByEquipment().get(EquipmentType.SLIDE));
+        assertEquals(0, occupancy.capacityByEquipment().get(EquipmentType.BALL_PIT));
+
+        // A removal promotes the next kid, a dequeue leaves the queue.
+        playgroundService.removeKidFromPlaySite(swingsUUID, playing.ticketNumber());
+        playgroundService.dequeueKid(swingsUUID, waiting.ticketNumber());
+        assertEquals(2, playgroundService.getTotalOnSite());
+        assertEquals(0, playgroundService.getTotalQueued());
+    }
+
     @Test
     void testEnqueueKid_InvalidPlaySiteId() {
         // Create a KidRequest object.
@@ -378,6 +1291,29 @@ public class PlaygroundServiceTest {
         });
     }
 
+    @Test
+    void testEnqueueKid_FreeSeats_PlaysAtOnce() {
+        UUID playSiteUUID = playgroundService.createPlaySite(new PlaySiteRequest("site-enqueue-free-seats", 10,
+                Set.of(new EquipmentRequest(
+                        EquipmentType.SLIDE.getUUID(), 1
+                ))
+        ));
+        Mockito.when(admissionController.acceptsWaiting(Mockito.any())).thenReturn(true);
+
+        // The only seat is free, the kid does not wait for a removal to be let in.
+        AdmissionResult admitted = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid1", 5));
+        assertEquals(AdmissionStatus.ADMITTED, admitted.status());
+        assertEquals(StatusType.PLAYING, admitted.kid().status());
+        assertEquals(StatusType.PLAYING, playgroundService.getKid(admitted.kid().ticketNumber()).status());
+        assertEquals(1, playgroundService.getPlaySite(playSiteUUID).occupiedCapacity());
+
+        // The play site is full now, so the next kid waits.
+        AdmissionResult queued = playgroundService.tryEnqueueKid(playSiteUUID, new KidRequest("Kid2", 5));
+        assertEquals(AdmissionStatus.QUEUED, queued.status());
+        assertEquals(StatusType.WAITING, queued.kid().status());
+        assertEquals(1, playgroundService.getPlaySite(playSiteUUID).kidQueue().size());
+    }
+
     @Test
     void testPlaySiteKids_ExpectedList() {
         // Create a play site with different combinations of equipment.
@@ -511,4 +1447,17 @@ public class PlaygroundServiceTest {
         assertEquals(equipmentTypes.get(0).getUUID(), equipmentType.id());
     }
 
+    @Test
+    void testFindEquipmentById_UnknownId_ThrowNotFoundException() {
+        assertThrows(NotFoundException.class, () -> playgroundService.findEquipmentById(UUID.randomUUID()));
+
+        // Creating a play site with an unknown equipment fails as well.
+        assertThrows(NotFoundException.class, () -> playgroundService.createPlaySite(new PlaySiteRequest("play-site-0013", 10,
+                Set.of(new EquipmentRequest(UUID.randomUUID(), 1)))));
+    }
+
+    private void advanceClock(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+        sessionTimer.advance();
+    }
 }
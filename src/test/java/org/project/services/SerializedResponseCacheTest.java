@@ -0,0 +1,138 @@
+package org.project.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.v1.cache.SerializedResponseCache;
+import org.project.playgrounds.v1.cache.SerializedResponseCache.View;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SerializedResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testGet_SameVersionServedFromCache_NewVersionSerializedAgain() {
+        SerializedResponseCache cache = new SerializedResponseCache(objectMapper, 1024);
+        UUID playSite = UUID.randomUUID();
+        AtomicInteger serializations = new AtomicInteger();
+
+        byte[] first = cache.get(playSite, View.PLAY_SITE, 1, () -> {
+            serializations.incrementAndGet();
+            return List.of("Kid1");
+        });
+        byte[] second = cache.get(playSite, View.PLAY_SITE, 1, () -> {
+            serializations.incrementAndGet();
+            return List.of("Kid1");
+        });
+
+        // Verify the bytes are serialized once and served as is.
+        assertSame(first, second);
+        assertEquals(1, serializations.get());
+        assertEquals("[\"Kid1\"]", new String(first, StandardCharsets.UTF_8));
+
+        // Another view of the same play site is a separate entry.
+        cache.get(playSite, View.PLAY_SITE_KIDS, 1, () -> List.of());
+        assertEquals(2, cache.size());
+
+        // A version bump replaces the entry.
+        byte[] bumped = cache.get(playSite, View.PLAY_SITE, 2, () -> List.of("Kid1", "Kid2"));
+        assertEquals("[\"Kid1\",\"Kid2\"]", new String(bumped, StandardCharsets.UTF_8));
+        assertEquals(2, cache.size());
+        assertSame(bumped, cache.get(playSite, View.PLAY_SITE, 2, () -> fail("served from cache")));
+
+        // A late reader of an older version does not replace the newer entry.
+        cache.get(playSite, View.PLAY_SITE, 1, () -> List.of("Kid1"));
+        assertSame(bumped, cache.get(playSite, View.PLAY_SITE, 2, () -> fail("served from cache")));
+    }
+
+    @Test
+    void testGet_EvictsLeastRecentlyUsedBeyondMaxBytes() {
+        // Every entry is 12 bytes, "[\"Kid-xxxx\"]" with a four digit suffix.
+        SerializedResponseCache cache = new SerializedResponseCache(objectMapper, 36);
+        UUID playSite1 = UUID.randomUUID();
+        UUID playSite2 = UUID.randomUUID();
+        UUID playSite3 = UUID.randomUUID();
+        UUID playSite4 = UUID.randomUUID();
+
+        cache.get(playSite1, View.PLAY_SITE, 1, () -> List.of("Kid-0001"));
+        cache.get(playSite2, View.PLAY_SITE, 1, () -> List.of("Kid-0002"));
+        cache.get(playSite3, View.PLAY_SITE, 1, () -> List.of("Kid-0003"));
+        assertEquals(3, cache.size());
+        assertEquals(36, cache.sizeInBytes());
+
+        // Touch the first play site, so the second one is the least recently used.
+        cache.get(playSite1, View.PLAY_SITE, 1, () -> fail("served from cache"));
+        cache.get(playSite4, View.PLAY_SITE, 1, () -> List.of("Kid-0004"));
+
+        assertEquals(3, cache.size());
+        assertEquals(36, cache.sizeInBytes());
+        AtomicInteger serializations = new AtomicInteger();
+        cache.get(playSite2, View.PLAY_SITE, 1, () -> {
+            serializations.incrementAndGet();
+            return List.of("Kid-0002");
+        });
+        assertEquals(1, serializations.get());
+
+        // Values larger than the cache are served but not kept.
+        cache.get(UUID.randomUUID(), View.PLAY_SITE, 1, () -> List.of("Kid-0005", "Kid-0006", "Kid-0007", "Kid-0008"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testGet_HitDoesNotWaitForTheCacheMonitor() throws Exception {
+        SerializedResponseCache cache = new SerializedResponseCache(objectMapper, 1024);
+        UUID playSite = UUID.randomUUID();
+        byte[] cached = cache.get(playSite, View.PLAY_SITE, 1, () -> List.of("Kid1"));
+
+        // Another thread caching new bytes holds the monitor, a hit is still served.
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            synchronized (cache) {
+                locked.countDown();
+                awaitUninterruptibly(release);
+            }
+        });
+        writer.start();
+        try {
+            locked.await();
+            byte[] hit = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> cache.get(playSite, View.PLAY_SITE, 1, () -> fail("served from cache")));
+            assertSame(cached, hit);
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+    }
+
+    @Test
+    void testETag_DiffersAcrossRestarts() {
+        UUID playSite = UUID.randomUUID();
+        SerializedResponseCache cache = new SerializedResponseCache(objectMapper, 1024);
+
+        // Stable within the process, different for another version or play site.
+        assertEquals(cache.eTag(playSite, 3), cache.eTag(playSite, 3));
+        assertNotEquals(cache.eTag(playSite, 3), cache.eTag(playSite, 4));
+        assertNotEquals(cache.eTag(playSite, 3), cache.eTag(UUID.randomUUID(), 3));
+
+        // A restarted process counts the versions from zero again, its tags do not match the old ones.
+        SerializedResponseCache restarted = new SerializedResponseCache(objectMapper, 1024);
+        assertNotEquals(cache.eTag(playSite, 3), restarted.eTag(playSite, 3));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.project.services;
+
+import org.junit.jupiter.api.Test;
+import org.project.playgrounds.v1.scheduler.TimingWheel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TimingWheel wheel = new TimingWheel(Duration.ofSeconds(1), clock::get, false);
+
+    @Test
+    void testTimeoutsExpireOnTheirTickAcrossAllWheels() {
+        // Delays of up to three days spread over every wheel, each timeout records when it ran.
+        Random random = new Random(42);
+        int count = 200_000;
+        long[] delays = new long[count];
+        long[] expiredAt = new long[count];
+        for (int i = 0; i < count; i++) {
+            int timeout = i;
+            delays[i] = random.nextInt(3 * 24 * 3600) + 1;
+            wheel.schedule(Duration.ofSeconds(delays[i]), () -> expiredAt[timeout] = seconds());
+        }
+        assertEquals(count, wheel.pending());
+
+        for (long second = 1; second <= 3 * 24 * 3600; second++) {
+            clock.set(Duration.ofSeconds(second).toNanos());
+            wheel.advance();
+        }
+
+        assertEquals(0, wheel.pending());
+        for (int i = 0; i < count; i++) {
+            assertEquals(delays[i], expiredAt[i], "timeout " + i);
+        }
+    }
+
+    @Test
+    void testDeadlineRoundedUpToTheNextTick() {
+        clock.set(Duration.ofMillis(300).toNanos());
+        AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(Duration.ofSeconds(2), runs::incrementAndGet);
+
+        // Due at 2.3 seconds, so it runs on the tick at 3 seconds and never before.
+        clock.set(Duration.ofMillis(2999).toNanos());
+        wheel.advance();
+        assertEquals(0, runs.get());
+        clock.set(Duration.ofSeconds(3).toNanos());
+        wheel.advance();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testCancelledTimeoutsNeverRun() {
+        AtomicInteger runs = new AtomicInteger();
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(wheel.schedule(Duration.ofMinutes(i % 100 + 1), runs::incrementAndGet));
+        }
+        // A quarter is cancelled before the timeouts are placed, another quarter once placed.
+        for (int i = 0; i < 1000; i += 4) {
+            assertTrue(timeouts.get(i).cancel());
+        }
+        clock.set(Duration.ofSeconds(1).toNanos());
+        wheel.advance();
+        for (int i = 2; i < 1000; i += 4) {
+            assertTrue(timeouts.get(i).cancel());
+        }
+        assertFalse(timeouts.get(0).cancel());
+        assertEquals(500, wheel.pending());
+
+        clock.set(Duration.ofHours(2).toNanos());
+        wheel.advance();
+        assertEquals(500, runs.get());
+        assertEquals(0, wheel.pending());
+        assertTrue(timeouts.get(0).isCancelled());
+        assertTrue(timeouts.get(1).isExpired());
+        assertFalse(timeouts.get(1).cancel());
+    }
+
+    @Test
+    void testTimeoutBeyondTheWheelsIsPlacedAgain() {
+        AtomicInteger runs = new AtomicInteger();
+        Duration delay = Duration.ofDays(400);
+        wheel.schedule(delay, runs::incrementAndGet);
+
+        clock.set(delay.minusSeconds(1).toNanos());
+        wheel.advance();
+        assertEquals(0, runs.get());
+        clock.set(delay.toNanos());
+        wheel.advance();
+        assertEquals(1, runs.get());
+    }
+
+    private long seconds() {
+        return Duration.ofNanos(clock.get()).toSeconds();
+    }
+}